@@ -0,0 +1,74 @@
+package benchmarks;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Iterating over every Actor in the World while Actors come and go, as they do when creatures hatch and die.
+ * Each invocation removes some Actors, adds as many new ones, then walks the whole turn order.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActorIterationBenchmark {
+
+    @Param({"100", "1000"})
+    public int actors;
+
+    /** How many Actors are replaced before each walk */
+    @Param({"0", "10"})
+    public int churn;
+
+    private ActorLocationsIterator actorLocations;
+    private GameMap map;
+    private final List<Actor> roster = new ArrayList<Actor>();
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Fixtures.registerQuietServices();
+        map = Fixtures.fieldMap(100, 100);
+        actorLocations = new ActorLocationsIterator();
+        for (int i = 0; i < actors; i++) {
+            Actor actor = new Fixtures.Wanderer();
+            actorLocations.add(actor, Fixtures.freeSquare(map, i * 7));
+            roster.add(actor);
+        }
+    }
+
+    @Benchmark
+    public void iterateWithChurn(Blackhole blackhole) {
+        for (int i = 0; i < churn; i++) {
+            int slot = next++ % roster.size();
+            Location location = actorLocations.locationOf(roster.get(slot));
+            actorLocations.remove(roster.get(slot));
+            Actor replacement = new Fixtures.Wanderer();
+            actorLocations.add(replacement, location);
+            roster.set(slot, replacement);
+        }
+        for (Actor actor : actorLocations) {
+            blackhole.consume(actor);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import edu.monash.fit2099.engine.GameRandom;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import game.actors.creatures.boss.BedOfChaos;
+import game.behaviours.StandardNPCController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Bed of Chaos after it has been growing for a number of turns: one more turn of growth, and adding up the
+ * attack power of everything it has grown. Growth is rolled one branch at a time while the boss is small and
+ * sampled once it's big, so neither should get more expensive after the first dozen or so turns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BedOfChaosBenchmark {
+
+    /** How many turns the boss has already grown for */
+    @Param({"5", "10", "14", "50", "500"})
+    public int turns;
+
+    private final Display display = new NullDisplay();
+    private BedOfChaos boss;
+
+    @Setup(Level.Trial)
+    public void setUpServices() {
+        Fixtures.registerQuietServices();
+    }
+
+    /**
+     * Growing changes the boss, so each invocation starts again from a boss grown for the same number of turns.
+     */
+    @Setup(Level.Invocation)
+    public void setUpBoss() {
+        GameRandom.setSeed(turns);
+        boss = new BedOfChaos(new StandardNPCController());
+        for (int i = 0; i < turns; i++) {
+            boss.grow(display);
+        }
+    }
+
+    @Benchmark
+    public BedOfChaos grow() {
+        boss.grow(display);
+        return boss;
+    }
+
+    @Benchmark
+    public int getTotalAttackPower() {
+        return boss.getTotalAttackPower();
+    }
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+
+import game.dialogue.Dialogue;
+import game.dialogue.DialogueParsingException;
+import game.dialogue.JsonDialogueParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonDialogueParser.parse on a reply the size of a typical LLM-generated dialogue.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DialogueParserBenchmark {
+
+    private static final String REPLY = "{"
+            + "\"options\": ["
+            + "[\"Who are you?\", \"What is this place?\", \"Do you have anything to trade?\"],"
+            + "[\"Tell me about the Inheritree.\", \"Why is the valley blighted?\", \"Farewell.\"],"
+            + "[\"Where did the sheep come from?\", \"Is the Bed of Chaos awake?\", \"I should go.\"]"
+            + "],"
+            + "\"responses\": ["
+            + "[\"A wanderer, as you are. The valley remembers every traveller.\","
+            + " \"The Valley of the Inheritree, once green, now thick with blight.\","
+            + " \"Only stories, friend, and stories are free.\"],"
+            + "[\"Its roots run under every field. Where it stands, the blight retreats.\","
+            + " \"Something stirs beneath Limveld, and the land sickens with it.\","
+            + " \"Walk carefully, and rest by the flame when you can.\"],"
+            + "[\"They wandered in with the mist, and the mist has not left.\","
+            + " \"It sleeps, but it grows. Every turn, it grows.\","
+            + " \"Then go, and may the Inheritree shelter you.\"]"
+            + "]"
+            + "}";
+
+    private final JsonDialogueParser parser = new JsonDialogueParser();
+
+    @Benchmark
+    public Dialogue parse() throws DialogueParsingException {
+        return parser.parse(REPLY);
+    }
+}
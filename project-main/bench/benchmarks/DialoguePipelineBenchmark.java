@@ -0,0 +1,148 @@
+package benchmarks;
+
+import game.actions.TalkAction;
+import game.actors.DialogueCapable;
+import game.dialogue.Dialogue;
+import game.dialogue.DialogueManager;
+import game.dialogue.DialogueParsingException;
+import game.dialogue.JsonDialogueParser;
+import game.llm.OfflineLLMService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The whole dialogue pipeline, without the network: DialogueManager.generateDialogue asks an OfflineLLMService
+ * for a conversation and JsonDialogueParser parses it, then the player talks it through to the end with
+ * TalkActions. Each thread is an NPC, and they all share one DialogueManager, as the game's NPCs do. Each thread
+ * has a stand-in of its own, seeded differently, so the threads don't contend on one random number generator
+ * and what's measured is the pipeline rather than the stand-in.
+ * <p>
+ * Throughput is conversations per millisecond across every thread, and the sample mode gives the tail latency of
+ * one conversation. latencyMillis is the median of the stand-in's long-tailed reply time, so 0 measures only the
+ * game's own work. With faultRate above 0, that share of requests fail, and as many again come back broken; those
+ * conversations fall back to a stock dialogue, as the NPCs' do. Change the number of NPCs with {@code -t}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class DialoguePipelineBenchmark {
+
+    /** The start of each NPC's prompt, which is what OfflineLLMService recognises them by */
+    private static final Map<String, String> PROMPTS = Map.of(
+            "narrator", "You are a mystical storyteller NPC named \"The Narrator\" in a fantasy game.",
+            "shabiri", "You are Shabiri, an ancient, cryptic entity in a fantasy world.",
+            "explorer", "You are \"The Explorer\", a wise wanderer NPC in Elden Ring Universe.\n"
+                    + "Player question:\nWhat lies beneath the Inheritree?");
+
+    @Param({"narrator", "shabiri", "explorer"})
+    public String speaker;
+
+    @Param({"0", "5"})
+    public int latencyMillis;
+
+    @Param({"0"})
+    public double faultRate;
+
+    /** Seeds the first thread's stand-in; each thread after it gets the next seed */
+    private static final long SEED = 42;
+
+    private final AtomicInteger threadsSetUp = new AtomicInteger();
+    private final ThreadLocal<OfflineLLMService> standIn = new ThreadLocal<>();
+    private DialogueManager dialogueManager;
+    private String prompt;
+
+    @Setup
+    public void setUp() {
+        dialogueManager = new DialogueManager(text -> standIn.get().generateText(text), new JsonDialogueParser());
+        prompt = PROMPTS.get(speaker);
+    }
+
+    /**
+     * Makes the calling thread's stand-in, which the shared DialogueManager will use on that thread.
+     */
+    private void setUpThread() {
+        OfflineLLMService llm = new OfflineLLMService(SEED + threadsSetUp.getAndIncrement())
+                .withErrorRate(faultRate).withMalformedRate(faultRate);
+        if (latencyMillis > 0) {
+            llm.withLatency(OfflineLLMService.Latency.logNormal(Duration.ofMillis(latencyMillis), 0.5));
+        }
+        standIn.set(llm);
+    }
+
+    @Benchmark
+    public void converse(Npc npc, Blackhole blackhole) {
+        Dialogue dialogue;
+        try {
+            dialogue = dialogueManager.generateDialogue(prompt);
+        } catch (DialogueParsingException e) {
+            dialogue = new Dialogue(List.of(List.of("…")), List.of(List.of("…")));
+        }
+        npc.dialogue = dialogue;
+        while (!dialogue.isFinished()) {
+            TalkAction talk = new TalkAction(npc, 0);
+            blackhole.consume(talk.menuDescription(null));
+            blackhole.consume(talk.execute(null, null));
+        }
+    }
+
+    /**
+     * One thread's NPC, which plays a dialogue the way Shabiri does, without an Actor or a map around it.
+     */
+    @State(Scope.Thread)
+    public static class Npc implements DialogueCapable {
+
+        Dialogue dialogue;
+
+        /**
+         * Gives this NPC's thread its own stand-in. JMH calls this on the thread that will use it.
+         *
+         * @param benchmark the shared state
+         */
+        @Setup
+        public void setUp(DialoguePipelineBenchmark benchmark) {
+            benchmark.setUpThread();
+        }
+
+        @Override
+        public Dialogue getCurrentDialogue() {
+            return dialogue;
+        }
+
+        @Override
+        public void resetDialogue() {
+        }
+
+        @Override
+        public String handleDialogueChoice(int optionIndex) {
+            String response = dialogue.getResponseFor(optionIndex);
+            dialogue.nextRound();
+            return response;
+        }
+
+        @Override
+        public String toString() {
+            return "NPC";
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package benchmarks;
+
+import edu.monash.fit2099.engine.GameRandom;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.events.EventBus;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.FancyGroundFactory;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import game.grounds.Blight;
+import game.grounds.Floor;
+import game.grounds.Soil;
+import game.grounds.TeleportationCircle;
+import game.grounds.Wall;
+import game.timemanagement.Phases;
+import game.timemanagement.ServiceLocator;
+import game.timemanagement.TimeProvider;
+
+/**
+ * Things the benchmarks need to build a small piece of the game without running Application.
+ */
+final class Fixtures {
+
+    /** The time of day, which benchmarks can set rather than waiting for it to change */
+    private static final FixedTime TIME = new FixedTime();
+
+    /** ServiceLocator only lets each service be registered once per JVM */
+    private static boolean servicesRegistered;
+
+    private Fixtures() {
+    }
+
+    /**
+     * Registers the services the game looks up through ServiceLocator: a fixed time of day, and a Display and
+     * EventBus that throw everything away, so benchmarks don't measure printing.
+     */
+    static synchronized void registerQuietServices() {
+        if (!servicesRegistered) {
+            ServiceLocator.registerTimeProvider(TIME);
+            ServiceLocator.registerDisplay(new NullDisplay());
+            ServiceLocator.registerEventBus(new EventBus());
+            servicesRegistered = true;
+        }
+        TIME.phase = Phases.DAY;
+        GameRandom.setSeed(42);
+    }
+
+    /**
+     * @param phase the time of day every TimeAware thing should see from now on
+     */
+    static void setPhase(Phases phase) {
+        TIME.phase = phase;
+    }
+
+    /**
+     * @return a ground factory set up the same way as the game's
+     */
+    static FancyGroundFactory groundFactory() {
+        return new FancyGroundFactory()
+                .registerShared(Blight::new)
+                .registerShared(Wall::new)
+                .registerShared(Floor::new)
+                .registerShared(Soil::new)
+                .register(TeleportationCircle::new);
+    }
+
+    /**
+     * Creates a map of soil, with a wall or floor on a regular sprinkling of squares.
+     *
+     * @param width  width of the map
+     * @param height height of the map
+     * @return the map; it still needs to be added to a World before Actors can be placed on it
+     */
+    static GameMap fieldMap(int width, int height) {
+        GameMap map = new GameMap("Field", groundFactory(), '.', width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if ((x * 7 + y * 3) % 23 == 0) {
+                    map.at(x, y).setGround(new Wall());
+                } else if ((x + y * 5) % 31 == 0) {
+                    map.at(x, y).setGround(new Floor());
+                }
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Finds a square that an Actor could be placed on.
+     *
+     * @param map   the map to search
+     * @param start where to start looking, as a tile index
+     * @return the first free square at or after start, wrapping around
+     */
+    static Location freeSquare(GameMap map, int start) {
+        int tiles = map.getWidth() * map.getHeight();
+        for (int i = 0; i < tiles; i++) {
+            Location location = map.atIndex((start + i) % tiles);
+            if (!location.containsAnActor() && location.canActorEnter(new Wanderer())) {
+                return location;
+            }
+        }
+        throw new IllegalStateException("Map is full");
+    }
+
+    /**
+     * The time of day, as set by the benchmark.
+     */
+    private static class FixedTime implements TimeProvider {
+        private volatile Phases phase = Phases.DAY;
+
+        @Override
+        public Phases getCurrentPhase() {
+            return phase;
+        }
+    }
+
+    /**
+     * An Actor that picks one of the Actions on offer at random, so that every turn works out what is on offer.
+     */
+    static class Wanderer extends Actor {
+
+        Wanderer() {
+            super("Wanderer", 'w', 10);
+        }
+
+        @Override
+        public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+            return actions.get(GameRandom.get().nextInt(actions.size()));
+        }
+    }
+
+    /**
+     * A portable item that does nothing except get ticked.
+     */
+    static class Pebble extends Item {
+
+        Pebble() {
+            super("Pebble", '*', true);
+        }
+    }
+}
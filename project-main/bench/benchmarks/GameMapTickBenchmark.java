@@ -0,0 +1,78 @@
+package benchmarks;
+
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.timemanagement.Phases;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameMap.tick on maps of different sizes. Soil only needs ticking at night, so the two phases show the cost of
+ * a map where almost nothing is due and one where almost everything is.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameMapTickBenchmark {
+
+    /** small is the size of the game's own maps; large is the size of a long-running generated world */
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    @Param({"DAY", "NIGHT"})
+    public Phases phase;
+
+    private GameMap map;
+
+    @Setup
+    public void setUp() {
+        Fixtures.registerQuietServices();
+        Fixtures.setPhase(phase);
+
+        int width;
+        int height;
+        switch (size) {
+            case "small":
+                width = 40;
+                height = 15;
+                break;
+            case "medium":
+                width = 200;
+                height = 100;
+                break;
+            case "large":
+                width = 1000;
+                height = 1000;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown size: " + size);
+        }
+
+        map = Fixtures.fieldMap(width, height);
+        new World(new NullDisplay()).addGameMap(map);
+        // One square in a hundred has an item on it
+        for (int i = 0; i < width * height; i += 100) {
+            map.atIndex(i).addItem(new Fixtures.Pebble());
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        map.tick();
+    }
+}
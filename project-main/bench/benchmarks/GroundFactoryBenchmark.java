@@ -0,0 +1,52 @@
+package benchmarks;
+
+import edu.monash.fit2099.engine.positions.FancyGroundFactory;
+import edu.monash.fit2099.engine.positions.Ground;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FancyGroundFactory.newGround, which is called for every square of every map that is loaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroundFactoryBenchmark {
+
+    private FancyGroundFactory factory;
+
+    @Setup
+    public void setUp() {
+        Fixtures.registerQuietServices();
+        factory = Fixtures.groundFactory();
+    }
+
+    /**
+     * Soil is registered as shared, so this should just be a lookup.
+     */
+    @Benchmark
+    public Ground sharedGround() {
+        return factory.newGround('.');
+    }
+
+    /**
+     * Teleportation circles have their own destinations, so each one is a new object.
+     */
+    @Benchmark
+    public Ground privateGround() {
+        return factory.newGround('A');
+    }
+}
@@ -0,0 +1,87 @@
+package benchmarks;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.Menu;
+import edu.monash.fit2099.engine.displays.OutputSink;
+import edu.monash.fit2099.engine.positions.GameMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Menu.showMenu with long lists of Actions, e.g. a player carrying a lot of items. The keyboard always answers
+ * with the first option, so this measures sorting, paging and printing the menu.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuBenchmark {
+
+    @Param({"26", "260", "2600"})
+    public int actions;
+
+    private Menu menu;
+    private Actor player;
+    private Display display;
+
+    @Setup
+    public void setUp() {
+        Fixtures.registerQuietServices();
+        ActionList list = new ActionList();
+        for (int i = 0; i < actions; i++) {
+            list.add(new NamedAction("Option " + i));
+        }
+        menu = new Menu(list);
+        player = new Fixtures.Wanderer();
+        display = new Display(OutputSink.NULL) {
+            @Override
+            public char readChar() {
+                return 'a';
+            }
+        };
+    }
+
+    @Benchmark
+    public Action showMenu() {
+        Action chosen = menu.showMenu(player, display);
+        display.flush();
+        return chosen;
+    }
+
+    /**
+     * An Action that only has a name.
+     */
+    private static class NamedAction extends Action {
+        private final String name;
+
+        NamedAction(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String execute(Actor actor, GameMap map) {
+            return name;
+        }
+
+        @Override
+        public String menuDescription(Actor actor) {
+            return actor + " chooses " + name;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.World;
+import game.actors.Status;
+import game.conditions.NearStatusCondition;
+import game.grounds.Blight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NearStatusCondition.isSatisfied, which creatures and NPCs check every turn. Every neighbouring square has an
+ * item on it, and the cursed square (if any) is the last neighbour to be checked, so a miss and a hit both look
+ * at everything around the Actor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearStatusConditionBenchmark {
+
+    /** Whether there is blight next to the Actor */
+    @Param({"false", "true"})
+    public boolean cursedNearby;
+
+    private NearStatusCondition condition;
+    private Actor actor;
+    private Location here;
+
+    @Setup
+    public void setUp() {
+        Fixtures.registerQuietServices();
+        GameMap map = Fixtures.fieldMap(9, 9);
+        new World(new NullDisplay()).addGameMap(map);
+        here = map.at(4, 4);
+        actor = new Fixtures.Wanderer();
+        map.addActor(actor, here);
+
+        Location last = null;
+        for (Exit exit : here.getExits()) {
+            exit.getDestination().addItem(new Fixtures.Pebble());
+            last = exit.getDestination();
+        }
+        if (cursedNearby) {
+            last.setGround(new Blight());
+        }
+        condition = new NearStatusCondition(Status.CURSED);
+    }
+
+    @Benchmark
+    public boolean isSatisfied() {
+        return condition.isSatisfied(actor, here);
+    }
+}
@@ -0,0 +1,84 @@
+package benchmarks;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.displays.OutputSink;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * World.processActorTurn: working out what an Actor can do, letting it choose, and carrying the Action out.
+ * Each invocation gives every Actor on the map one turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldTurnBenchmark {
+
+    /** How many Actors take a turn */
+    @Param({"10", "100"})
+    public int actors;
+
+    /** Whether anybody is reading the messages, i.e. whether they need to be formatted */
+    @Param({"false", "true"})
+    public boolean describe;
+
+    private TurnWorld world;
+    private Display display;
+    private final List<Actor> roster = new ArrayList<Actor>();
+
+    @Setup
+    public void setUp() {
+        Fixtures.registerQuietServices();
+        display = describe ? new Display(OutputSink.NULL) : new NullDisplay();
+        world = new TurnWorld(display);
+        GameMap map = Fixtures.fieldMap(60, 30);
+        world.addGameMap(map);
+        for (int i = 0; i < actors; i++) {
+            Actor actor = new Fixtures.Wanderer();
+            map.addActor(actor, Fixtures.freeSquare(map, i * 17));
+            roster.add(actor);
+        }
+    }
+
+    @Benchmark
+    public void processActorTurns() {
+        for (Actor actor : roster) {
+            world.turn(actor);
+        }
+        display.flush();
+    }
+
+    /**
+     * Lets the benchmark call World.processActorTurn directly.
+     */
+    static class TurnWorld extends World {
+
+        TurnWorld(Display display) {
+            super(display);
+        }
+
+        void turn(Actor actor) {
+            processActorTurn(actor);
+        }
+    }
+}
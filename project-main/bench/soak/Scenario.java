@@ -0,0 +1,162 @@
+package soak;
+
+import edu.monash.fit2099.engine.positions.ChunkedGameMap;
+import edu.monash.fit2099.engine.positions.FancyGroundFactory;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.NumberRange;
+import edu.monash.fit2099.engine.positions.World;
+import game.EldenThingGameMap;
+import game.actors.creatures.GoldenBeetle;
+import game.actors.creatures.OmenSheep;
+import game.actors.creatures.boss.BedOfChaos;
+import game.behaviours.StandardNPCController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The worlds a soak test can run. Each one stresses a part of the game that gets more expensive the longer a
+ * world runs. The player is kept out of the way in a room of its own, so nothing depends on what it does.
+ */
+public enum Scenario {
+
+    /**
+     * A valley covered in blight. Zombies rise from it every night until the valley is full of them.
+     */
+    BLIGHT_FIELD("blight-field", 2000, "a blighted valley filling up with zombies every night") {
+        @Override
+        void populate(World world, FancyGroundFactory groundFactory) {
+            world.addGameMap(new EldenThingGameMap("Blighted Valley", groundFactory, field(60, 25, 'x', '.', 0)));
+        }
+    },
+
+    /**
+     * Golden beetles and omen sheep laying eggs, which hatch into more of them.
+     */
+    EGG_EXPLOSION("egg-explosion", 200, "golden beetles and omen sheep laying and hatching eggs") {
+        @Override
+        void populate(World world, FancyGroundFactory groundFactory) {
+            // Golden eggs only hatch near something cursed, so leave some blight about
+            GameMap map = new EldenThingGameMap("Nesting Grounds", groundFactory, field(60, 25, '.', 'x', 9));
+            world.addGameMap(map);
+            StandardNPCController controller = new StandardNPCController();
+            for (int i = 0; i < 15; i++) {
+                map.at(2 + i * 4, 5).addActor(new GoldenBeetle(controller));
+                map.at(2 + i * 4, 18).addActor(new OmenSheep(controller));
+            }
+        }
+    },
+
+    /**
+     * The Bed of Chaos growing branches and leaves every turn with nobody to stop it.
+     */
+    BED_OF_CHAOS("bed-of-chaos", 2000, "the Bed of Chaos growing unchecked") {
+        @Override
+        void populate(World world, FancyGroundFactory groundFactory) {
+            GameMap map = new EldenThingGameMap("Limveld", groundFactory, field(32, 15, '.', 'x', 0));
+            world.addGameMap(map);
+            map.at(16, 7).addActor(new BedOfChaos(new StandardNPCController()));
+        }
+    },
+
+    /**
+     * Travellers criss-crossing a big chunked map of soil with patches of blight on it. Chunks load as the
+     * travellers reach them and unload once they've moved on, while the blight that wakes up along the way keeps
+     * raising zombies at night.
+     */
+    FRONTIER("frontier", 2000, "travellers crossing a 1024x1024 chunked map, loading and unloading chunks") {
+        @Override
+        void populate(World world, FancyGroundFactory groundFactory) {
+            ChunkedGameMap map = new ChunkedGameMap("Frontier", groundFactory, '.', 1024, 1024);
+            // One chunk in sixteen has blight in it, and the rest can unload when the travellers have gone
+            for (int y = 14; y < 1024; y += 128) {
+                for (int x = 14; x < 1024; x += 128) {
+                    map.add('x', new NumberRange(x, 3), new NumberRange(y, 3));
+                }
+            }
+            world.addGameMap(map);
+            for (int y = 80; y < 1024; y += 128) {
+                for (int x = 80; x < 1024; x += 128) {
+                    map.at(x, y).addActor(new Traveller());
+                }
+            }
+        }
+    };
+
+    private final String id;
+    private final int defaultTurns;
+    private final String description;
+
+    Scenario(String id, int defaultTurns, String description) {
+        this.id = id;
+        this.defaultTurns = defaultTurns;
+        this.description = description;
+    }
+
+    /**
+     * Adds this scenario's maps and actors to a world.
+     *
+     * @param world         the world to populate
+     * @param groundFactory the ground factory to build maps with
+     */
+    abstract void populate(World world, FancyGroundFactory groundFactory);
+
+    /**
+     * @return the name used to pick this scenario on the command line, e.g. "blight-field"
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return how many turns to run if the command line doesn't say
+     */
+    public int getDefaultTurns() {
+        return defaultTurns;
+    }
+
+    /**
+     * @return what the scenario exercises
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Looks up a scenario by its command-line name.
+     *
+     * @param id the name, e.g. "egg-explosion"
+     * @return the scenario
+     * @throws IllegalArgumentException if there is no such scenario
+     */
+    public static Scenario forId(String id) {
+        for (Scenario scenario : values()) {
+            if (scenario.id.equals(id)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + id);
+    }
+
+    /**
+     * Lays out a rectangular map of one ground, bordered by nothing, with another ground on a diagonal pattern.
+     *
+     * @param width  width of the map
+     * @param height height of the map
+     * @param ground the main ground
+     * @param patch  the other ground
+     * @param every  put the other ground on every this-many-th diagonal; 0 for none
+     * @return the map layout
+     */
+    private static List<String> field(int width, int height, char ground, char patch, int every) {
+        List<String> lines = new ArrayList<>();
+        for (int y = 0; y < height; y++) {
+            StringBuilder line = new StringBuilder();
+            for (int x = 0; x < width; x++) {
+                line.append(every > 0 && (x + y) % every == 0 ? patch : ground);
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
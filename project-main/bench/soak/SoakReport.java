@@ -0,0 +1,131 @@
+package soak;
+
+import java.util.Arrays;
+
+/**
+ * What a soak test measured: throughput, turn latency percentiles, allocation per turn, peak population and, on
+ * chunked maps, how many chunks were loaded.
+ */
+public class SoakReport {
+
+    private final int turns;
+    private final long totalNanos;
+    private final long[] sortedNanos;
+    private final long totalBytes;
+    private final boolean allocationMeasured;
+    private final int peakActors;
+    private final int peakItems;
+    private final int peakLoadedChunks;
+    private final int finalLoadedChunks;
+
+    /**
+     * Constructor.
+     *
+     * @param turns              how many turns were measured
+     * @param turnNanos          how long each turn took, in nanoseconds; only the first {@code turns} are used
+     * @param turnBytes          how much each turn allocated, in bytes; only the first {@code turns} are used
+     * @param allocationMeasured false if the JVM couldn't measure allocation, in which case turnBytes is meaningless
+     * @param peakActors         the most actors alive at the end of any turn
+     * @param peakItems          the most items lying on the maps at the end of any turn
+     * @param peakLoadedChunks   the most chunks of chunked maps loaded at the end of any turn; 0 if there are none
+     * @param finalLoadedChunks  how many chunks of chunked maps were loaded at the end of the last turn
+     */
+    SoakReport(int turns, long[] turnNanos, long[] turnBytes, boolean allocationMeasured, int peakActors, int peakItems,
+               int peakLoadedChunks, int finalLoadedChunks) {
+        this.turns = turns;
+        this.sortedNanos = Arrays.copyOf(turnNanos, turns);
+        Arrays.sort(sortedNanos);
+        long nanos = 0;
+        long bytes = 0;
+        for (int i = 0; i < turns; i++) {
+            nanos += turnNanos[i];
+            bytes += turnBytes[i];
+        }
+        this.totalNanos = nanos;
+        this.totalBytes = bytes;
+        this.allocationMeasured = allocationMeasured;
+        this.peakActors = peakActors;
+        this.peakItems = peakItems;
+        this.peakLoadedChunks = peakLoadedChunks;
+        this.finalLoadedChunks = finalLoadedChunks;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * @return turns played per second, counting only the time spent in the turns themselves
+     */
+    public double getTurnsPerSecond() {
+        return totalNanos == 0 ? 0 : turns / (totalNanos / 1e9);
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the turn latency at that percentile, in milliseconds (nearest-rank)
+     */
+    public double getLatencyMillis(double percentile) {
+        if (turns == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * turns);
+        return sortedNanos[Math.max(0, Math.min(turns - 1, rank - 1))] / 1e6;
+    }
+
+    /**
+     * @return the slowest turn, in milliseconds
+     */
+    public double getMaxLatencyMillis() {
+        return turns == 0 ? 0 : sortedNanos[turns - 1] / 1e6;
+    }
+
+    /**
+     * @return the mean bytes allocated by the game thread per turn, or -1 if allocation couldn't be measured
+     */
+    public double getBytesPerTurn() {
+        if (!allocationMeasured) {
+            return -1;
+        }
+        return turns == 0 ? 0 : (double) totalBytes / turns;
+    }
+
+    public int getPeakActors() {
+        return peakActors;
+    }
+
+    public int getPeakItems() {
+        return peakItems;
+    }
+
+    public int getPeakLoadedChunks() {
+        return peakLoadedChunks;
+    }
+
+    public int getFinalLoadedChunks() {
+        return finalLoadedChunks;
+    }
+
+    /**
+     * @return the report as a few lines of text
+     */
+    public String format() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Turns measured:     %d%n", turns));
+        text.append(String.format("Time in turns:      %.1f ms%n", totalNanos / 1e6));
+        text.append(String.format("Turns/sec:          %.1f%n", getTurnsPerSecond()));
+        text.append(String.format("Turn latency (ms):  p50 %.3f   p99 %.3f   max %.3f%n",
+                getLatencyMillis(50), getLatencyMillis(99), getMaxLatencyMillis()));
+        if (allocationMeasured) {
+            text.append(String.format("Allocated/turn:     %.1f KB%n", getBytesPerTurn() / 1024));
+        } else {
+            text.append(String.format("Allocated/turn:     not available on this JVM%n"));
+        }
+        text.append(String.format("Peak live actors:   %d%n", peakActors));
+        text.append(String.format("Peak live items:    %d%n", peakItems));
+        if (peakLoadedChunks > 0) {
+            text.append(String.format("Loaded chunks:      peak %d   at end %d%n", peakLoadedChunks, finalLoadedChunks));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,228 @@
+package soak;
+
+import edu.monash.fit2099.engine.GameRandom;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.positions.FancyGroundFactory;
+import edu.monash.fit2099.engine.positions.GameMap;
+import game.EldenThingGameMap;
+import game.actors.Player;
+import game.behaviours.RandomPlayerPolicy;
+import game.grounds.Blight;
+import game.grounds.Floor;
+import game.grounds.Soil;
+import game.grounds.TeleportationCircle;
+import game.grounds.Wall;
+import game.timemanagement.ServiceLocator;
+import game.timemanagement.TimeTracker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a scenario for a fixed number of turns with a fixed seed, reports how it performed, and fails if it
+ * went over any of the budgets it was given. Needs no terminal input, so it can run unattended, e.g. in CI:
+ * <pre>
+ *     java -cp target/benchmarks.jar soak.SoakTest --scenario=blight-field --turns=5000 --seed=42 \
+ *         --warmup=200 --max-p99-ms=2 --max-kb-per-turn=512
+ * </pre>
+ * Exits with 0 if every budget was met, 1 if any was exceeded, and 2 if the arguments were wrong.
+ * Only one scenario can be run per JVM, because the game's services can only be registered once.
+ */
+public class SoakTest {
+
+    private static final long DEFAULT_SEED = 42;
+
+    /**
+     * Starts the soak test.
+     *
+     * @param args command line arguments; run with {@code --help} to list them
+     */
+    public static void main(String[] args) {
+        Scenario scenario = Scenario.BLIGHT_FIELD;
+        Integer turns = null;
+        int warmup = 0;
+        long seed = DEFAULT_SEED;
+        Budgets budgets = new Budgets();
+        try {
+            for (String arg : args) {
+                if (arg.equals("--help")) {
+                    System.out.println(usage());
+                    return;
+                } else if (arg.startsWith("--scenario=")) {
+                    scenario = Scenario.forId(value(arg));
+                } else if (arg.startsWith("--turns=")) {
+                    turns = positive(arg);
+                } else if (arg.startsWith("--warmup=")) {
+                    warmup = Integer.parseInt(value(arg));
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(value(arg));
+                } else if (!budgets.parse(arg)) {
+                    throw new IllegalArgumentException("Unknown argument: " + arg);
+                }
+            }
+            if (warmup < 0) {
+                throw new IllegalArgumentException("Warm-up can't be negative");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(usage());
+            System.exit(2);
+            return;
+        }
+        if (turns == null) {
+            turns = scenario.getDefaultTurns();
+        }
+
+        SoakReport report = run(scenario, turns, warmup, seed);
+        System.out.printf("Scenario:           %s (%s)%n", scenario.getId(), scenario.getDescription());
+        System.out.printf("Seed:               %d, %d warm-up turns%n", seed, warmup);
+        System.out.print(report.format());
+
+        List<String> exceeded = budgets.check(report);
+        if (report.getTurns() < turns) {
+            exceeded.add(String.format("only %d of %d turns were played", report.getTurns(), turns));
+        }
+        if (exceeded.isEmpty()) {
+            System.out.println("Budgets:            all met");
+        } else {
+            for (String problem : exceeded) {
+                System.out.println("BUDGET EXCEEDED:    " + problem);
+            }
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Builds the scenario's world and runs it.
+     *
+     * @param scenario the scenario to run
+     * @param turns    how many turns to measure
+     * @param warmup   how many turns to play first without measuring
+     * @param seed     the random seed
+     * @return what was measured
+     */
+    static SoakReport run(Scenario scenario, int turns, int warmup, long seed) {
+        GameRandom.setSeed(seed);
+        NullDisplay display = new NullDisplay();
+        SoakWorld world = new SoakWorld(display, warmup, turns);
+
+        TimeTracker timeTracker = new TimeTracker();
+        ServiceLocator.registerTimeProvider(timeTracker);
+        ServiceLocator.registerDisplay(display);
+        ServiceLocator.registerEventBus(world.events());
+
+        FancyGroundFactory groundFactory = new FancyGroundFactory()
+                .registerShared(Blight::new)
+                .registerShared(Wall::new)
+                .registerShared(Floor::new)
+                .registerShared(Soil::new)
+                .register(TeleportationCircle::new);
+
+        // The player waits in a room of its own, which is also where time is kept
+        GameMap room = new EldenThingGameMap("Observation Room", groundFactory, '.', 1, 1, timeTracker);
+        world.addGameMap(room);
+        world.addPlayer(new Player("Observer", '@', 100, 200, new RandomPlayerPolicy()), room.at(0, 0));
+
+        scenario.populate(world, groundFactory);
+        world.run();
+        return world.report();
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+
+    private static int positive(String arg) {
+        int value = Integer.parseInt(value(arg));
+        if (value <= 0) {
+            throw new IllegalArgumentException(arg + ": must be positive");
+        }
+        return value;
+    }
+
+    private static String usage() {
+        StringBuilder text = new StringBuilder("Usage: SoakTest [--scenario=NAME] [--turns=N] [--warmup=N] [--seed=N] [budgets]\n");
+        text.append("Scenarios:\n");
+        for (Scenario scenario : Scenario.values()) {
+            text.append(String.format("  %-16s %s (default %d turns)%n",
+                    scenario.getId(), scenario.getDescription(), scenario.getDefaultTurns()));
+        }
+        text.append("Budgets (the run fails if any is exceeded):\n");
+        text.append("  --min-turns-per-sec=N  --max-p50-ms=N  --max-p99-ms=N  --max-turn-ms=N\n");
+        text.append("  --max-kb-per-turn=N    --max-actors=N  --max-items=N");
+        return text.toString();
+    }
+
+    /**
+     * The limits a run has to stay within. Any that aren't given aren't checked.
+     */
+    private static class Budgets {
+        private Double minTurnsPerSecond;
+        private Double maxP50Millis;
+        private Double maxP99Millis;
+        private Double maxTurnMillis;
+        private Double maxKilobytesPerTurn;
+        private Integer maxActors;
+        private Integer maxItems;
+
+        /**
+         * @param arg a command-line argument
+         * @return true if it was a budget
+         */
+        boolean parse(String arg) {
+            if (arg.startsWith("--min-turns-per-sec=")) {
+                minTurnsPerSecond = Double.parseDouble(value(arg));
+            } else if (arg.startsWith("--max-p50-ms=")) {
+                maxP50Millis = Double.parseDouble(value(arg));
+            } else if (arg.startsWith("--max-p99-ms=")) {
+                maxP99Millis = Double.parseDouble(value(arg));
+            } else if (arg.startsWith("--max-turn-ms=")) {
+                maxTurnMillis = Double.parseDouble(value(arg));
+            } else if (arg.startsWith("--max-kb-per-turn=")) {
+                maxKilobytesPerTurn = Double.parseDouble(value(arg));
+            } else if (arg.startsWith("--max-actors=")) {
+                maxActors = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--max-items=")) {
+                maxItems = Integer.parseInt(value(arg));
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * @param report what was measured
+         * @return a description of each budget that was exceeded
+         */
+        List<String> check(SoakReport report) {
+            List<String> exceeded = new ArrayList<>();
+            if (minTurnsPerSecond != null && report.getTurnsPerSecond() < minTurnsPerSecond) {
+                exceeded.add(String.format("%.1f turns/sec < %.1f", report.getTurnsPerSecond(), minTurnsPerSecond));
+            }
+            if (maxP50Millis != null && report.getLatencyMillis(50) > maxP50Millis) {
+                exceeded.add(String.format("p50 turn latency %.3f ms > %.3f ms", report.getLatencyMillis(50), maxP50Millis));
+            }
+            if (maxP99Millis != null && report.getLatencyMillis(99) > maxP99Millis) {
+                exceeded.add(String.format("p99 turn latency %.3f ms > %.3f ms", report.getLatencyMillis(99), maxP99Millis));
+            }
+            if (maxTurnMillis != null && report.getMaxLatencyMillis() > maxTurnMillis) {
+                exceeded.add(String.format("slowest turn %.3f ms > %.3f ms", report.getMaxLatencyMillis(), maxTurnMillis));
+            }
+            if (maxKilobytesPerTurn != null) {
+                if (report.getBytesPerTurn() < 0) {
+                    exceeded.add("allocation can't be measured on this JVM");
+                } else if (report.getBytesPerTurn() / 1024 > maxKilobytesPerTurn) {
+                    exceeded.add(String.format("%.1f KB allocated per turn > %.1f KB",
+                            report.getBytesPerTurn() / 1024, maxKilobytesPerTurn));
+                }
+            }
+            if (maxActors != null && report.getPeakActors() > maxActors) {
+                exceeded.add(String.format("%d live actors > %d", report.getPeakActors(), maxActors));
+            }
+            if (maxItems != null && report.getPeakItems() > maxItems) {
+                exceeded.add(String.format("%d live items > %d", report.getPeakItems(), maxItems));
+            }
+            return exceeded;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package soak;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.metrics.Metrics;
+import edu.monash.fit2099.engine.positions.ChunkedGameMap;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.HeadlessWorld;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * A HeadlessWorld that measures every turn: how long it took, how much it allocated, and how many actors and
+ * items were alive at the end of it, along with how many chunks of any {@link ChunkedGameMap} were loaded. The first few turns can be played as a warm-up and left out, of the
+ * {@link Metrics} as well.
+ */
+class SoakWorld extends HeadlessWorld {
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final int warmupTurns;
+    private final long[] turnNanos;
+    private final long[] turnBytes;
+    private int played;
+    private int recorded;
+    private int peakActors;
+    private int peakItems;
+    private int peakLoadedChunks;
+    private int loadedChunks;
+
+    /**
+     * Constructor.
+     *
+     * @param display     where game messages go
+     * @param warmupTurns how many turns to play before measuring
+     * @param turns       how many turns to measure
+     */
+    SoakWorld(Display display, int warmupTurns, int turns) {
+        super(display, warmupTurns + turns);
+        this.warmupTurns = warmupTurns;
+        this.turnNanos = new long[turns];
+        this.turnBytes = new long[turns];
+
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threads = (com.sun.management.ThreadMXBean) bean;
+            threads.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threads = null;
+        }
+    }
+
+    @Override
+    protected void processTurn() {
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        super.processTurn();
+        long nanos = System.nanoTime() - start;
+        long bytes = allocatedBytes() - bytesBefore;
+
+        if (played++ < warmupTurns) {
+            if (played == warmupTurns) {
+                Metrics.reset();
+            }
+            return;
+        }
+        turnNanos[recorded] = nanos;
+        turnBytes[recorded] = bytes;
+        recorded++;
+
+        int actors = 0;
+        for (Actor ignored : actorLocations) {
+            actors++;
+        }
+        peakActors = Math.max(peakActors, actors);
+
+        int[] items = new int[1];
+        loadedChunks = 0;
+        for (GameMap map : gameMaps) {
+            if (map instanceof ChunkedGameMap) {
+                // Items can only be in loaded chunks, and visiting the rest would load them
+                ChunkedGameMap chunkedMap = (ChunkedGameMap) map;
+                chunkedMap.forEachLoadedLocation(location -> items[0] += location.getItems().size());
+                loadedChunks += chunkedMap.getLoadedChunkCount();
+            } else {
+                map.forEachLocation(location -> items[0] += location.getItems().size());
+            }
+        }
+        peakItems = Math.max(peakItems, items[0]);
+        peakLoadedChunks = Math.max(peakLoadedChunks, loadedChunks);
+    }
+
+    /**
+     * @return true if this JVM can say how much a thread has allocated
+     */
+    boolean measuresAllocation() {
+        return threads != null;
+    }
+
+    /**
+     * @return the results of the turns measured so far
+     */
+    SoakReport report() {
+        return new SoakReport(recorded, turnNanos, turnBytes, measuresAllocation(), peakActors, peakItems,
+                peakLoadedChunks, loadedChunks);
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? 0 : threads.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,55 @@
+package soak;
+
+import edu.monash.fit2099.engine.GameRandom;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actions.MoveActorAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Walks in a straight line until something is in the way, then sets off in a random new direction. Unlike a
+ * wandering creature, it gets a long way from where it started, so it keeps moving into parts of a big map that
+ * nobody has been to for a while.
+ */
+class Traveller extends Actor {
+
+    private int dx;
+    private int dy;
+
+    Traveller() {
+        super("Traveller", 't', 1000);
+    }
+
+    @Override
+    public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+        Location here = map.locationOf(this);
+        List<Exit> open = new ArrayList<>();
+        for (Exit exit : here.getExits()) {
+            Location there = exit.getDestination();
+            if (!there.canActorEnter(this)) {
+                continue;
+            }
+            if (there.x() - here.x() == dx && there.y() - here.y() == dy) {
+                return new MoveActorAction(there, exit.getName());
+            }
+            open.add(exit);
+        }
+        if (open.isEmpty()) {
+            return new DoNothingAction();
+        }
+
+        Exit exit = open.get(GameRandom.get().nextInt(open.size()));
+        Location there = exit.getDestination();
+        dx = there.x() - here.x();
+        dy = there.y() - here.y();
+        return new MoveActorAction(there, exit.getName());
+    }
+}
@@ -0,0 +1,39 @@
+package edu.monash.fit2099.engine;
+
+import java.util.Random;
+
+/**
+ * A single, shared source of randomness for the engine and game client.
+ * <p>
+ * Everything that rolls dice (hit rates, wandering, spawning, etc.) should draw from
+ * {@link #get()} instead of creating its own {@link Random}. That way a whole run can be
+ * reproduced by seeding this one generator, which is what unattended batch runs rely on.
+ */
+public final class GameRandom {
+
+    /**
+     * The shared generator. {@link Random} is thread-safe, so it can be shared freely.
+     */
+    private static final Random RANDOM = new Random();
+
+    private GameRandom() {
+    }
+
+    /**
+     * Returns the shared random number generator.
+     *
+     * @return the shared Random
+     */
+    public static Random get() {
+        return RANDOM;
+    }
+
+    /**
+     * Re-seed the shared generator so that subsequent rolls are reproducible.
+     *
+     * @param seed the seed to use
+     */
+    public static void setSeed(long seed) {
+        RANDOM.setSeed(seed);
+    }
+}
@@ -1,6 +1,7 @@
 package edu.monash.fit2099.engine.actions;
 
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.events.ActorWaited;
 import edu.monash.fit2099.engine.positions.GameMap;
 
 /**
@@ -11,7 +12,7 @@ public class DoNothingAction extends Action {
 
 	@Override
 	public String execute(Actor actor, GameMap map) {
-		return menuDescription(actor);
+		return map.events().report(new ActorWaited(actor));
 	}
 
 	@Override
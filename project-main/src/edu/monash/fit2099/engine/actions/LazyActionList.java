@@ -0,0 +1,106 @@
+package edu.monash.fit2099.engine.actions;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * An ActionList that isn't filled in until somebody looks at it.
+ * <p>
+ * Working out every Action available to an Actor means asking its items, the ground, and every neighbour, which is
+ * wasted effort for Actors that decide what to do some other way. A LazyActionList runs its builder the first time
+ * any of its methods is called, so if nobody calls them, the Actions are never created.
+ */
+public class LazyActionList extends ActionList {
+
+	private Consumer<ActionList> builder;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param builder adds the Actions to the list when it is first used
+	 */
+	public LazyActionList(Consumer<ActionList> builder) {
+		this.builder = Objects.requireNonNull(builder);
+	}
+
+	/**
+	 * @return true if the Actions have been worked out
+	 */
+	public boolean isBuilt() {
+		return builder == null;
+	}
+
+	/**
+	 * Runs the builder, if it hasn't already run.
+	 */
+	private void build() {
+		if (builder != null) {
+			Consumer<ActionList> pending = builder;
+			builder = null; // So that the builder's own calls to add() don't come back here
+			pending.accept(this);
+		}
+	}
+
+	@Override
+	public void add(ActionList actions) {
+		build();
+		super.add(actions);
+	}
+
+	@Override
+	public void add(List<Action> actions) {
+		build();
+		super.add(actions);
+	}
+
+	@Override
+	public boolean add(Action action) {
+		build();
+		return super.add(action);
+	}
+
+	@Override
+	public Iterator<Action> iterator() {
+		build();
+		return super.iterator();
+	}
+
+	@Override
+	public List<Action> sorted(Comparator<Action> comparator) {
+		build();
+		return super.sorted(comparator);
+	}
+
+	@Override
+	public void clear() {
+		build();
+		super.clear();
+	}
+
+	@Override
+	public int size() {
+		build();
+		return super.size();
+	}
+
+	@Override
+	public void remove(Action action) {
+		build();
+		super.remove(action);
+	}
+
+	@Override
+	public Action get(int i) {
+		build();
+		return super.get(i);
+	}
+
+	@Override
+	public List<Action> getUnmodifiableActionList() {
+		build();
+		return super.getUnmodifiableActionList();
+	}
+}
@@ -1,6 +1,7 @@
 package edu.monash.fit2099.engine.actions;
 
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.events.ActorMoved;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 
@@ -63,12 +64,13 @@ public class MoveActorAction extends Action {
 	 * @see Action#execute(Actor, GameMap)
 	 * @param actor The actor performing the action.
 	 * @param map The map the actor is on.
-	 * @return a description of the Action suitable for the menu
+	 * @return a description of the move, if anyone is reading
 	 */
 	@Override
 	public String execute(Actor actor, GameMap map) {
+		Location from = map.locationOf(actor);
 		map.moveActor(actor, moveToLocation);
-		return menuDescription(actor);
+		return map.events().report(new ActorMoved(actor, from, moveToLocation, direction));
 	}
 
 	/**
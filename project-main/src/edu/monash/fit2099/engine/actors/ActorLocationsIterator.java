@@ -1,35 +1,38 @@
 package edu.monash.fit2099.engine.actors;
 
+import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 
 import java.util.*;
 
 /**
  * Represents a bimap of locations and actors. Hence it enforces the one actor
- * per location rule. Has a nifty iterator that lets us modify the collection
- * while iterating it.
+ * per location rule. The location-to-actor half lives in each map's
+ * {@link edu.monash.fit2099.engine.positions.OccupancyGrid}. Has a nifty iterator
+ * that lets us modify the collection while iterating it.
  *
  */
 public class ActorLocationsIterator implements Iterable<Actor> {
-	/**
-	 * A mapping of location to the actor
-	 */
-	private final Map<Location, Actor> locationToActor;
 	/**
 	 * A mapping of actor to location
 	 */
 	private final Map<Actor, Location> actorToLocation;
 	/**
-	 * Current actor
+	 * The Actors on each map, in the order they arrived there
+	 */
+	private final Map<GameMap, Set<Actor>> mapToActors;
+	/**
+	 * The order in which Actors take their turns, player first
 	 */
-	private Actor player;
+	private final TurnOrder turnOrder;
 
 	/**
 	 * Default constructor.
 	 */
 	public ActorLocationsIterator() {
-		locationToActor = new HashMap<Location, Actor>();
 		actorToLocation = new HashMap<Actor, Location>();
+		mapToActors = new HashMap<GameMap, Set<Actor>>();
+		turnOrder = new TurnOrder();
 	}
 
 	/**
@@ -38,7 +41,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param player the player
 	 */
 	public void setPlayer(Actor player) {
-		this.player = player;
+		turnOrder.setPlayer(player);
 	}
 			
 			
@@ -52,11 +55,13 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	public void add(Actor actor, Location location) {
 		if(actorToLocation.containsKey(actor))
 			throw new IllegalArgumentException();
-		if(locationToActor.containsKey(location))
+		if(isAnActorAt(location))
 			throw new IllegalArgumentException();
 		
 		actorToLocation.put(actor, location);
-		locationToActor.put(location, actor);
+		occupy(location, actor);
+		actorsOf(location.map()).add(actor);
+		turnOrder.add(actor);
 	}
 
 	/**
@@ -65,9 +70,13 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param actor the Actor to remove
 	 */
 	public void remove(Actor actor) {
-		Location location = actorToLocation.get(actor);
-		actorToLocation.remove(actor);
-		locationToActor.remove(location);
+		Location location = actorToLocation.remove(actor);
+		if (location == null)
+			return;
+
+		vacate(location);
+		actorsOf(location.map()).remove(actor);
+		turnOrder.remove(actor);
 	}
 
 	/**
@@ -83,8 +92,14 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 
 		Location oldLocation = actorToLocation.get(actor);
 		actorToLocation.put(actor, newLocation);
-		locationToActor.remove(oldLocation);
-		locationToActor.put(newLocation, actor);
+		if (oldLocation != null)
+			vacate(oldLocation);
+		occupy(newLocation, actor);
+
+		if (oldLocation != null && oldLocation.map() != newLocation.map()) {
+			actorsOf(oldLocation.map()).remove(actor);
+			actorsOf(newLocation.map()).add(actor);
+		}
 	}
 
 	/**
@@ -104,7 +119,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return true if and only if an Actor is at the given Location.
 	 */
 	public boolean isAnActorAt(Location location) {
-		return locationToActor.containsKey(location);
+		return location.map().occupancyAt(location.x(), location.y()).isOccupied(location.x(), location.y());
 	}
 
 	/**
@@ -114,7 +129,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return a reference to the Actor, or null if there isn't one 
 	 */
 	public Actor getActorAt(Location location) {
-		return locationToActor.get(location);
+		return location.map().occupancyAt(location.x(), location.y()).getActorAt(location.x(), location.y());
 	}
 
 	/**
@@ -127,56 +142,47 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	}
 
 	/**
-	 * Class to allow iterating over all Actors in the system, player first
-	 * This allows Actors to take turns in a known order.
+	 * Returns the Actors currently on the given map, in the order they arrived there.
+	 * <p>
+	 * The returned list is a copy, so the caller may add, move or remove Actors while walking it.
+	 *
+	 * @param map the map to look at
+	 * @return a new list of the Actors on map
 	 */
-	class ActorIterator implements Iterator<Actor> {
-		Map<Actor, Location> actorLocations;
-		List<Actor> actors;
+	public List<Actor> actorsOn(GameMap map) {
+		Set<Actor> actors = mapToActors.get(map);
+		if (actors == null)
+			return new ArrayList<Actor>();
+		return new ArrayList<Actor>(actors);
+	}
 
-		/**
-		 * Constructor.
-		 *
-		 * @param actorLocations the collection of mappings between Actors and Locations
-		 */
-		public ActorIterator(Map<Actor, Location> actorLocations) {
-			this.actorLocations = actorLocations;
-			actors = new ArrayList<Actor>(actorLocations.keySet());
-			
-			// Make sure the player is first. 
-			if(actors.contains(player)) {
-				actors.remove(player);
-				actors.add(0, player);
-			}
-		}
+	/**
+	 * Records actor as standing on location in its map's occupancy grid.
+	 *
+	 * @param location where the Actor is
+	 * @param actor the Actor
+	 */
+	private void occupy(Location location, Actor actor) {
+		location.map().occupancyAt(location.x(), location.y()).place(location.x(), location.y(), actor);
+	}
 
-		/**
-		 * @see Iterator#hasNext()
-		 * @return true if there is another Actor that needs to take a turn, false otherwise
-		 */
-		@Override
-		public boolean hasNext() {
-			for (Actor actor : actors) {
-				if (actorLocations.containsKey(actor))
-					return true;
-			}
-
-			return false;
-		}
+	/**
+	 * Clears location in its map's occupancy grid.
+	 *
+	 * @param location the Location that is now empty
+	 */
+	private void vacate(Location location) {
+		location.map().occupancyAt(location.x(), location.y()).clear(location.x(), location.y());
+	}
 
-		/**
-		 * @see Iterator#next()
-		 */
-		@Override
-		public Actor next() {
-			while (!actors.isEmpty()) {
-				Actor actor = actors.remove(0);
-				if (actorLocations.containsKey(actor))
-					return actor;
-			}
-
-			throw new ConcurrentModificationException();
-		}
+	/**
+	 * Returns the (modifiable) set of Actors on the given map, creating it if necessary.
+	 *
+	 * @param map the map
+	 * @return the set of Actors on map
+	 */
+	private Set<Actor> actorsOf(GameMap map) {
+		return mapToActors.computeIfAbsent(map, m -> new LinkedHashSet<Actor>());
 	}
 
 	/**
@@ -184,6 +190,6 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 */
 	@Override
 	public Iterator<Actor> iterator() {
-		return new ActorIterator(actorToLocation);
+		return turnOrder.iterator();
 	}
 }
@@ -0,0 +1,166 @@
+package edu.monash.fit2099.engine.actors;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * The order in which Actors take their turns.
+ * <p>
+ * Actors act in the order they were added, except that the player (if any) always goes first.
+ * Removing an Actor just leaves a tombstone in its slot, so adding and removing are O(1) and
+ * iterating over a turn never copies the whole population. Tombstones are swept out when the
+ * slot array fills up.
+ * <p>
+ * An iteration sees the Actors that were present when it started. Actors that are removed
+ * before their turn comes up are skipped, and Actors added during the iteration wait until
+ * the next one.
+ */
+class TurnOrder implements Iterable<Actor> {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Actors in turn order. A null is a tombstone left by a removed Actor.
+	 */
+	private Actor[] slots = new Actor[INITIAL_CAPACITY];
+	/**
+	 * Number of slots in use, including tombstones
+	 */
+	private int end;
+	/**
+	 * Where each live Actor sits in slots
+	 */
+	private final Map<Actor, Integer> slotOf = new HashMap<Actor, Integer>();
+	/**
+	 * The Actor who always goes first
+	 */
+	private Actor player;
+
+	/**
+	 * Sets the Actor who goes first in every turn.
+	 *
+	 * @param player the player
+	 */
+	void setPlayer(Actor player) {
+		this.player = player;
+	}
+
+	/**
+	 * Adds an Actor to the end of the turn order.
+	 *
+	 * @param actor the Actor to add
+	 */
+	void add(Actor actor) {
+		if (slotOf.containsKey(actor))
+			return;
+
+		if (end == slots.length)
+			reallocate();
+
+		slots[end] = actor;
+		slotOf.put(actor, end);
+		end++;
+	}
+
+	/**
+	 * Removes an Actor from the turn order. Does nothing if the Actor is not in it.
+	 *
+	 * @param actor the Actor to remove
+	 */
+	void remove(Actor actor) {
+		Integer slot = slotOf.remove(actor);
+		if (slot != null)
+			slots[slot] = null;
+	}
+
+	/**
+	 * @param actor the Actor to look for
+	 * @return true if the Actor is in the turn order
+	 */
+	boolean contains(Actor actor) {
+		return slotOf.containsKey(actor);
+	}
+
+	/**
+	 * Moves the live Actors into a fresh array, dropping tombstones and growing if more than
+	 * half the slots are still in use.
+	 * <p>
+	 * A new array is always allocated, never compacted in place, so an iteration that is in
+	 * progress keeps walking the array it started with.
+	 */
+	private void reallocate() {
+		int live = slotOf.size();
+		int capacity = live * 2 > slots.length ? slots.length * 2 : slots.length;
+		Actor[] fresh = new Actor[capacity];
+
+		int next = 0;
+		for (int i = 0; i < end; i++) {
+			Actor actor = slots[i];
+			if (actor != null) {
+				fresh[next] = actor;
+				slotOf.put(actor, next);
+				next++;
+			}
+		}
+
+		slots = fresh;
+		end = next;
+	}
+
+	/**
+	 * @see Iterable#iterator()
+	 */
+	@Override
+	public Iterator<Actor> iterator() {
+		return new TurnIterator();
+	}
+
+	/**
+	 * Walks one turn: the player, then every other Actor in slot order.
+	 */
+	private class TurnIterator implements Iterator<Actor> {
+		private final Actor[] turnSlots = slots;
+		private final int turnEnd = end;
+		private final Actor turnPlayer = player;
+		private boolean playerPending = player != null;
+		private int cursor;
+		private Actor upcoming;
+
+		@Override
+		public boolean hasNext() {
+			if (upcoming == null)
+				upcoming = advance();
+			return upcoming != null;
+		}
+
+		@Override
+		public Actor next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+			Actor actor = upcoming;
+			upcoming = null;
+			return actor;
+		}
+
+		/**
+		 * Finds the next Actor that is still present, or null if the turn is over.
+		 */
+		private Actor advance() {
+			if (playerPending) {
+				playerPending = false;
+				if (contains(turnPlayer))
+					return turnPlayer;
+			}
+
+			while (cursor < turnEnd) {
+				Actor actor = turnSlots[cursor++];
+				if (actor != null && actor != turnPlayer && contains(actor))
+					return actor;
+			}
+
+			return null;
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.util.Arrays;
+
+/**
+ * A Display for ANSI terminals that keeps the map in place at the top of the screen and only redraws the squares
+ * that have changed.
+ * <p>
+ * Each frame of the map is composed into a buffer and compared with the previous frame. The changed squares are
+ * written with cursor-movement escape codes, all in a single write, and the cursor is then put back where it was,
+ * so the messages below the map stay on screen and the next ones follow on from them. The whole screen is redrawn
+ * on the first frame, when the size of the map changes (e.g. the player moves to another map), and when enough
+ * lines have been printed below the map that the terminal may have scrolled. A redraw clears the screen, so the
+ * messages printed since the previous frame, which the player may not have read yet, are printed again below the
+ * map, as many of them as fit.
+ */
+public class AnsiDisplay extends Display {
+
+	/**
+	 * How many rows to assume the terminal has if the LINES environment variable doesn't say.
+	 */
+	public static final int DEFAULT_SCREEN_ROWS = 50;
+
+	private static final String ESC = "\033[";
+	private static final String SAVE_CURSOR = "\0337";
+	private static final String RESTORE_CURSOR = "\0338";
+
+	private final int screenRows;
+	private final StringBuilder output = new StringBuilder();
+	private char[] previous = new char[0];
+	private char[] current = new char[0];
+	private int frameWidth;
+	private int frameHeight;
+	private boolean inFrame;
+	private int cursorX;
+	private int cursorY;
+	private int linesBelowMap;
+	private final StringBuilder sinceFrame = new StringBuilder();
+	private boolean redrawAll = true;
+
+	/**
+	 * Constructor for a terminal on standard output whose height is taken from the LINES environment variable,
+	 * if set.
+	 */
+	public AnsiDisplay() {
+		this(OutputSink.stdout());
+	}
+
+	/**
+	 * Constructor for a terminal whose height is taken from the LINES environment variable, if set.
+	 *
+	 * @param sink where the output goes
+	 */
+	public AnsiDisplay(OutputSink sink) {
+		this(screenRowsFromEnvironment(), sink);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param screenRows how many rows the terminal has
+	 * @param sink       where the output goes
+	 */
+	public AnsiDisplay(int screenRows, OutputSink sink) {
+		super(sink);
+		if (screenRows <= 0)
+			throw new IllegalArgumentException("Screen must have at least one row");
+		this.screenRows = screenRows;
+	}
+
+	@Override
+	public void beginFrame(int width, int height) {
+		if (width != frameWidth || height != frameHeight) {
+			frameWidth = width;
+			frameHeight = height;
+			previous = new char[width * height];
+			current = new char[width * height];
+			redrawAll = true;
+		}
+		Arrays.fill(current, ' ');
+		inFrame = true;
+		cursorX = 0;
+		cursorY = 0;
+	}
+
+	@Override
+	public void print(Printable printable) {
+		if (!inFrame) {
+			super.print(printable);
+			sinceFrame.append(printable.getDisplayChar());
+			return;
+		}
+		if (cursorX < frameWidth && cursorY < frameHeight)
+			current[cursorY * frameWidth + cursorX] = printable.getDisplayChar();
+		cursorX++;
+	}
+
+	@Override
+	public void print(String s) {
+		super.print(s);
+		message(s);
+	}
+
+	@Override
+	public void println(String s) {
+		super.println(s);
+		message(s);
+		message(System.lineSeparator());
+	}
+
+	/**
+	 * Reads a line, remembering it as part of the messages, since the terminal echoes it below the map.
+	 */
+	@Override
+	public String readLine() {
+		String line = super.readLine();
+		message(line);
+		message(System.lineSeparator());
+		return line;
+	}
+
+	@Override
+	public void endLine() {
+		if (!inFrame) {
+			super.endLine();
+			message(System.lineSeparator());
+			return;
+		}
+		cursorX = 0;
+		cursorY++;
+	}
+
+	/**
+	 * Writes whatever has changed since the last frame, leaving the messages below the map as they are; or, if the
+	 * whole screen is redrawn, prints the messages since the last frame again below it.
+	 */
+	@Override
+	public void endFrame() {
+		inFrame = false;
+		if (frameHeight + linesBelowMap >= screenRows)
+			redrawAll = true;
+
+		output.setLength(0);
+		if (redrawAll)
+			output.append(ESC).append("H").append(ESC).append("2J");
+		else
+			output.append(SAVE_CURSOR);
+
+		for (int y = 0; y < frameHeight; y++) {
+			int written = -1; // The column just after the last square written on this row, if any
+			for (int x = 0; x < frameWidth; x++) {
+				int index = y * frameWidth + x;
+				if (!redrawAll && current[index] == previous[index])
+					continue;
+				if (x != written)
+					moveTo(x, y);
+				output.append(current[index]);
+				written = x + 1;
+			}
+		}
+		if (redrawAll) {
+			moveTo(0, frameHeight);
+			CharSequence messages = lastLines(sinceFrame, Math.max(0, screenRows - frameHeight - 1));
+			output.append(messages);
+			linesBelowMap = countLines(messages);
+		} else {
+			output.append(RESTORE_CURSOR);
+		}
+
+		append(output);
+		flush();
+
+		char[] swap = previous;
+		previous = current;
+		current = swap;
+		sinceFrame.setLength(0);
+		redrawAll = false;
+	}
+
+	/**
+	 * Keeps track of a message printed below the map.
+	 */
+	private void message(String s) {
+		sinceFrame.append(s);
+		linesBelowMap += countLines(s);
+	}
+
+	/**
+	 * The end of some text, holding at most {@code lines} line breaks.
+	 */
+	private static CharSequence lastLines(CharSequence text, int lines) {
+		int breaks = 0;
+		for (int i = text.length() - 1; i >= 0; i--) {
+			if (text.charAt(i) == '\n' && ++breaks > lines)
+				return text.subSequence(i + 1, text.length());
+		}
+		return text;
+	}
+
+	/**
+	 * Adds an escape code moving the cursor to a square (0-based) to the output.
+	 */
+	private void moveTo(int x, int y) {
+		output.append(ESC).append(y + 1).append(';').append(x + 1).append('H');
+	}
+
+	private static int countLines(CharSequence s) {
+		int lines = 0;
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) == '\n')
+				lines++;
+		}
+		return lines;
+	}
+
+	private static int screenRowsFromEnvironment() {
+		String lines = System.getenv("LINES");
+		if (lines != null) {
+			try {
+				int rows = Integer.parseInt(lines.trim());
+				if (rows > 0)
+					return rows;
+			} catch (NumberFormatException e) {
+				// Fall through to the default
+			}
+		}
+		return DEFAULT_SCREEN_ROWS;
+	}
+}
@@ -0,0 +1,203 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An OutputSink that hands its output to a background thread, so the game doesn't wait for slow terminals or disks.
+ * <p>
+ * Batches are queued in a bounded ring buffer and written, in order, by a single writer thread, which combines
+ * whatever has queued up into one write to the underlying sink. When the buffer is full, the
+ * {@link BackPressure} policy decides whether the game waits or the batch is dropped.
+ */
+public class AsyncOutputSink implements OutputSink {
+
+	/**
+	 * What to do when the writer thread can't keep up and the buffer is full.
+	 */
+	public enum BackPressure {
+		/**
+		 * Wait for space. Nothing is lost, but the game slows down to the speed of the output.
+		 */
+		BLOCK,
+		/**
+		 * Throw the batch away and carry on. Nothing slows down, but output is lost; see {@link #getDroppedCount()}.
+		 */
+		DROP
+	}
+
+	/**
+	 * Queued to tell the writer thread to stop. Compared by identity.
+	 */
+	private static final String END = new String("end");
+
+	private final OutputSink target;
+	private final BackPressure backPressure;
+	private final BlockingQueue<String> queue;
+	private final Thread writer;
+	private final Object lock = new Object();
+	private long submitted; // Batches accepted into the queue; guarded by lock
+	private long written; // Batches written to the target; guarded by lock
+	private long dropped; // Batches thrown away; guarded by lock
+	private volatile boolean closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param target       where the output ends up
+	 * @param capacity     how many batches can be waiting to be written
+	 * @param backPressure what to do when that many are waiting
+	 */
+	public AsyncOutputSink(OutputSink target, int capacity, BackPressure backPressure) {
+		this.target = Objects.requireNonNull(target);
+		this.backPressure = Objects.requireNonNull(backPressure);
+		if (capacity <= 0)
+			throw new IllegalArgumentException("Capacity must be positive");
+
+		queue = new ArrayBlockingQueue<String>(capacity);
+		writer = new Thread(this::drain, "display-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * Queue some text to be written.
+	 *
+	 * @param text the text to write
+	 * @throws IllegalStateException if the sink has been closed
+	 */
+	@Override
+	public void write(String text) {
+		if (closed)
+			throw new IllegalStateException("Sink is closed");
+		if (text.isEmpty())
+			return;
+
+		if (backPressure == BackPressure.BLOCK) {
+			synchronized (lock) {
+				submitted++;
+			}
+			putUninterruptibly(text);
+		} else {
+			synchronized (lock) {
+				// Count it before offering, so the writer can never finish it before it's been counted
+				submitted++;
+				if (!queue.offer(text)) {
+					submitted--;
+					dropped++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Wait until the writer thread has written everything queued so far.
+	 */
+	@Override
+	public void sync() {
+		synchronized (lock) {
+			long target = submitted;
+			boolean interrupted = false;
+			while (written < target && writer.isAlive()) {
+				try {
+					lock.wait(100);
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+		target.sync();
+	}
+
+	/**
+	 * Write out everything queued, stop the writer thread, and close the underlying sink.
+	 */
+	@Override
+	public void close() {
+		if (closed)
+			return;
+		closed = true;
+		putUninterruptibly(END);
+
+		boolean interrupted = false;
+		while (writer.isAlive()) {
+			try {
+				writer.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		target.close();
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	/**
+	 * @return how many batches have been thrown away because the buffer was full
+	 */
+	public long getDroppedCount() {
+		synchronized (lock) {
+			return dropped;
+		}
+	}
+
+	/**
+	 * The writer thread: take whatever is queued, write it as one, repeat until told to stop.
+	 */
+	private void drain() {
+		List<String> batches = new ArrayList<String>();
+		StringBuilder combined = new StringBuilder();
+		boolean running = true;
+		while (running) {
+			batches.clear();
+			try {
+				batches.add(queue.take());
+			} catch (InterruptedException e) {
+				continue; // Only close() stops the writer
+			}
+			queue.drainTo(batches);
+
+			combined.setLength(0);
+			int count = 0;
+			for (String batch : batches) {
+				if (batch == END) {
+					running = false;
+					break;
+				}
+				combined.append(batch);
+				count++;
+			}
+
+			try {
+				if (combined.length() > 0)
+					target.write(combined.toString());
+			} catch (RuntimeException e) {
+				e.printStackTrace(); // Losing some output shouldn't stop the writer, or the game
+			}
+
+			synchronized (lock) {
+				written += count;
+				lock.notifyAll();
+			}
+		}
+	}
+
+	private void putUninterruptibly(String text) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				queue.put(text);
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+}
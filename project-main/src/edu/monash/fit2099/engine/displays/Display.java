@@ -1,16 +1,54 @@
 package edu.monash.fit2099.engine.displays;
 
+import java.util.Objects;
+import java.util.Queue;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Class that manages I/O for the system
+ * <p>
+ * Output is collected and handed to an {@link OutputSink} in batches: whenever {@link #flush()} is called (World
+ * does this at the end of every turn), and before reading from the keyboard so that prompts are always visible.
+ * A Display created without a sink writes to standard output instead, a line at a time, as a PrintStream would.
+ * <p>
+ * A Display belongs to the game thread. Other threads can only use {@link #printlnLater(String)}.
+ * <p>
+ * All Displays share one keyboard, so that input typed ahead isn't lost inside a Scanner belonging to some other
+ * Display.
  */
 public class Display  {
 
 	/**
-	 * Input
+	 * Input, shared by every Display. Created the first time anything is read.
 	 */
-	private final Scanner keyboard = new Scanner(System.in);
+	private static Scanner keyboard;
+
+	private final OutputSink sink;
+	private final boolean lineBuffered;
+	private final StringBuilder pending = new StringBuilder();
+	private final Queue<String> fromOtherThreads = new ConcurrentLinkedQueue<String>();
+
+	/**
+	 * Constructor for a Display that writes to standard output at the end of every line.
+	 */
+	public Display() {
+		this(OutputSink.stdout(), true);
+	}
+
+	/**
+	 * Constructor for a Display that sends its output to a sink each time it is flushed.
+	 *
+	 * @param sink where the output goes
+	 */
+	public Display(OutputSink sink) {
+		this(sink, false);
+	}
+
+	private Display(OutputSink sink, boolean lineBuffered) {
+		this.sink = Objects.requireNonNull(sink);
+		this.lineBuffered = lineBuffered;
+	}
 
 	/**
 	 * Display a displayable object.
@@ -18,7 +56,7 @@ public class Display  {
 	 * @param printable the object to display
 	 */
 	public void print(Printable printable) {
-		System.out.print(printable.getDisplayChar());
+		pending.append(printable.getDisplayChar());
 	}
 
 	/**
@@ -27,7 +65,7 @@ public class Display  {
 	 * @param s the string
 	 */
 	public void print(String s) {
-		System.out.print(s);
+		append(s);
 	}
 
 	/**
@@ -35,23 +73,120 @@ public class Display  {
 	 * @param s the string to print
 	 */
 	public void println(String s) {
-		System.out.println(s);
+		pending.append(s).append(System.lineSeparator());
+		lineEnded();
+	}
+
+	/**
+	 * Prints a line the next time this Display is flushed, which is always between frames. Unlike everything else
+	 * here, this can be called from any thread, e.g. to report a problem in the background.
+	 *
+	 * @param s the string to print
+	 */
+	public void printlnLater(String s) {
+		fromOtherThreads.add(Objects.requireNonNull(s));
 	}
 
 	/**
 	 * Terminates the line.
 	 */
 	public void endLine() {
-		System.out.println("");
+		append(System.lineSeparator());
+		lineEnded();
+	}
+
+	/**
+	 * Called by GameMap before it draws a frame of the map. Until {@link #endFrame()} is called, each
+	 * {@link #print(Printable)} is the next square of the current row and each {@link #endLine()} ends a row.
+	 * <p>
+	 * This Display just prints the squares as they come. Override this and {@link #endFrame()} to render
+	 * the whole frame at once.
+	 *
+	 * @param width  how many squares are in each row
+	 * @param height how many rows there are
+	 */
+	public void beginFrame(int width, int height) {
+	}
+
+	/**
+	 * Called by GameMap when it has finished drawing a frame of the map.
+	 */
+	public void endFrame() {
+	}
+
+	/**
+	 * Does anything printed on this Display get shown anywhere? If not, there's no point formatting messages for it.
+	 *
+	 * @return true, unless this Display throws its output away
+	 */
+	public boolean showsOutput() {
+		return true;
+	}
+
+	/**
+	 * Hands everything printed since the last flush to the sink, as one batch.
+	 */
+	public void flush() {
+		String line;
+		while ((line = fromOtherThreads.poll()) != null)
+			println(line);
+		if (pending.length() > 0) {
+			String batch = pending.toString();
+			pending.setLength(0);
+			sink.write(batch);
+		}
+	}
+
+	/**
+	 * Flushes, then closes the sink, waiting for any outstanding output to be written.
+	 */
+	public void close() {
+		flush();
+		sink.close();
 	}
 
 	/**
 	 * Read a char from the keyboard.
-	 * 
-	 * @return the first char of the next entered string.
+	 *
+	 * @return the first char of the next non-blank line entered.
 	 */
 	public char readChar() {
-		String s = keyboard.next();
+		String s;
+		do {
+			s = readLine().trim();
+		} while (s.isEmpty());
 		return s.charAt(0);
 	}
+
+	/**
+	 * Read a line of text from the keyboard.
+	 *
+	 * @return the line entered, without the line terminator
+	 */
+	public String readLine() {
+		flush();
+		sink.sync();
+		return keyboard().nextLine();
+	}
+
+	/**
+	 * Adds some text to the output, without any of the bookkeeping a subclass may do in
+	 * {@link #print(String)}.
+	 *
+	 * @param s the text to add
+	 */
+	protected void append(CharSequence s) {
+		pending.append(s);
+	}
+
+	private void lineEnded() {
+		if (lineBuffered)
+			flush();
+	}
+
+	private static synchronized Scanner keyboard() {
+		if (keyboard == null)
+			keyboard = new Scanner(System.in);
+		return keyboard;
+	}
 }
@@ -0,0 +1,61 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * A Display that throws all of its output away.
+ * <p>
+ * Use this when nobody is watching, e.g. when running a World unattended. There is no
+ * keyboard behind it either, so anything that tries to read input is a programming error.
+ */
+public class NullDisplay extends Display {
+
+	/**
+	 * Constructor.
+	 */
+	public NullDisplay() {
+		super(OutputSink.NULL);
+	}
+
+	/**
+	 * @return false; everything is thrown away
+	 */
+	@Override
+	public boolean showsOutput() {
+		return false;
+	}
+
+	@Override
+	public void print(Printable printable) {
+	}
+
+	@Override
+	public void print(String s) {
+	}
+
+	@Override
+	public void println(String s) {
+	}
+
+	@Override
+	public void endLine() {
+	}
+
+	/**
+	 * There is no keyboard attached to a NullDisplay.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public char readChar() {
+		throw new UnsupportedOperationException("NullDisplay cannot read input");
+	}
+
+	/**
+	 * There is no keyboard attached to a NullDisplay.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public String readLine() {
+		throw new UnsupportedOperationException("NullDisplay cannot read input");
+	}
+}
@@ -0,0 +1,69 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * Somewhere a Display sends its output.
+ * <p>
+ * A Display collects what is printed and hands it to its sink in batches, normally once per turn,
+ * so sinks see a few large writes rather than one write per character.
+ */
+public interface OutputSink {
+
+	/**
+	 * A sink that throws everything away.
+	 */
+	OutputSink NULL = new OutputSink() {
+		@Override
+		public void write(String text) {
+		}
+
+		@Override
+		public void sync() {
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	/**
+	 * Returns a sink that writes to standard output as soon as it is given anything.
+	 *
+	 * @return a sink for System.out
+	 */
+	static OutputSink stdout() {
+		return new OutputSink() {
+			@Override
+			public void write(String text) {
+				System.out.print(text);
+				System.out.flush();
+			}
+
+			@Override
+			public void sync() {
+				System.out.flush();
+			}
+
+			@Override
+			public void close() {
+				System.out.flush();
+			}
+		};
+	}
+
+	/**
+	 * Send some text to the sink. The sink may not have finished with it when this returns.
+	 *
+	 * @param text the text to write
+	 */
+	void write(String text);
+
+	/**
+	 * Wait until everything written so far has reached its destination, e.g. before asking the user for input.
+	 */
+	void sync();
+
+	/**
+	 * Write out anything outstanding and release any resources. The sink can't be used afterwards.
+	 */
+	void close();
+}
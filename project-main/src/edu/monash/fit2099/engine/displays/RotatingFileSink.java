@@ -0,0 +1,110 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An OutputSink that appends to a log file, starting a new file when the current one gets too big.
+ * <p>
+ * When the file reaches its size limit it is renamed to {@code name.1}, any older {@code name.1} becomes
+ * {@code name.2}, and so on, keeping at most a given number of old files. This isn't thread-safe; wrap it in an
+ * {@link AsyncOutputSink} to write from a background thread.
+ */
+public class RotatingFileSink implements OutputSink {
+
+	private final Path path;
+	private final long maxBytes;
+	private final int keepFiles;
+	private FileChannel channel;
+	private long size;
+
+	/**
+	 * Constructor. Appends to the file if it already exists.
+	 *
+	 * @param path      the log file
+	 * @param maxBytes  how big the file can get before it is rotated
+	 * @param keepFiles how many rotated files to keep; 0 to just throw them away
+	 * @throws UncheckedIOException if the file can't be opened
+	 */
+	public RotatingFileSink(Path path, long maxBytes, int keepFiles) {
+		if (maxBytes <= 0)
+			throw new IllegalArgumentException("Maximum file size must be positive");
+		if (keepFiles < 0)
+			throw new IllegalArgumentException("Number of files to keep can't be negative");
+		this.path = path;
+		this.maxBytes = maxBytes;
+		this.keepFiles = keepFiles;
+		open();
+	}
+
+	/**
+	 * Appends some text to the file, encoded as UTF-8.
+	 *
+	 * @param text the text to write
+	 * @throws UncheckedIOException if it can't be written
+	 */
+	@Override
+	public void write(String text) {
+		ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+		try {
+			if (size > 0 && size + bytes.remaining() > maxBytes)
+				rotate();
+			while (bytes.hasRemaining())
+				size += channel.write(bytes);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Nothing to wait for: writes are complete when {@link #write(String)} returns.
+	 */
+	@Override
+	public void sync() {
+	}
+
+	@Override
+	public void close() {
+		try {
+			channel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void open() {
+		try {
+			channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+			size = channel.size();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void rotate() throws IOException {
+		channel.close();
+		if (keepFiles == 0) {
+			Files.delete(path);
+		} else {
+			Files.deleteIfExists(rotated(keepFiles));
+			for (int i = keepFiles - 1; i >= 1; i--) {
+				Path older = rotated(i);
+				if (Files.exists(older))
+					Files.move(older, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+			}
+			Files.move(path, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+		}
+		open();
+	}
+
+	private Path rotated(int generation) {
+		return path.resolveSibling(path.getFileName() + "." + generation);
+	}
+}
@@ -10,16 +10,18 @@ import edu.monash.fit2099.engine.positions.GameMap;
  */
 class UpdatePageAction extends Action {
     private final Menu menu;
+    private final Display display;
     private final int page;
 
-    public UpdatePageAction(Menu menu, int page) {
+    public UpdatePageAction(Menu menu, Display display, int page) {
         this.menu = menu;
+        this.display = display;
         this.page = page;
     }
 
     @Override
     public String execute(Actor actor, GameMap map) {
-        return menu.showMenu(actor, new Display(), page).execute(actor, map);
+        return menu.showMenu(actor, display, page).execute(actor, map);
     }
 
     @Override
@@ -0,0 +1,63 @@
+package edu.monash.fit2099.engine.events;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Location;
+
+/**
+ * An Actor has moved from one Location to another.
+ */
+public class ActorMoved implements GameEvent {
+
+	private final Actor actor;
+	private final Location from;
+	private final Location to;
+	private final String direction;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param actor     the Actor that moved
+	 * @param from      where it was
+	 * @param to        where it is now
+	 * @param direction the direction it moved in, e.g. "north"
+	 */
+	public ActorMoved(Actor actor, Location from, Location to, String direction) {
+		this.actor = actor;
+		this.from = from;
+		this.to = to;
+		this.direction = direction;
+	}
+
+	/**
+	 * @return the Actor
+	 */
+	public Actor getActor() {
+		return actor;
+	}
+
+	/**
+	 * @return where the Actor was
+	 */
+	public Location getFrom() {
+		return from;
+	}
+
+	/**
+	 * @return where the Actor is now
+	 */
+	public Location getTo() {
+		return to;
+	}
+
+	/**
+	 * @return the direction the Actor moved in
+	 */
+	public String getDirection() {
+		return direction;
+	}
+
+	@Override
+	public String describe() {
+		return actor + " moves " + direction;
+	}
+}
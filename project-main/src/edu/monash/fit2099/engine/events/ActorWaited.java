@@ -0,0 +1,32 @@
+package edu.monash.fit2099.engine.events;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+/**
+ * An Actor has spent its turn doing nothing.
+ */
+public class ActorWaited implements GameEvent {
+
+	private final Actor actor;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param actor the Actor that waited
+	 */
+	public ActorWaited(Actor actor) {
+		this.actor = actor;
+	}
+
+	/**
+	 * @return the Actor
+	 */
+	public Actor getActor() {
+		return actor;
+	}
+
+	@Override
+	public String describe() {
+		return actor + " does nothing";
+	}
+}
@@ -0,0 +1,89 @@
+package edu.monash.fit2099.engine.events;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+/**
+ * An Actor has attacked another, and either hit or missed.
+ */
+public class Attacked implements GameEvent {
+
+	private final Actor attacker;
+	private final Actor target;
+	private final String verb;
+	private final int damage;
+	private final boolean hit;
+
+	private Attacked(Actor attacker, Actor target, String verb, int damage, boolean hit) {
+		this.attacker = attacker;
+		this.target = target;
+		this.verb = verb;
+		this.damage = damage;
+		this.hit = hit;
+	}
+
+	/**
+	 * An attack that landed.
+	 *
+	 * @param attacker the Actor that attacked
+	 * @param target   the Actor that was attacked
+	 * @param verb     how it was attacked, e.g. "slashes"
+	 * @param damage   how much damage was done
+	 * @return the event
+	 */
+	public static Attacked hit(Actor attacker, Actor target, String verb, int damage) {
+		return new Attacked(attacker, target, verb, damage, true);
+	}
+
+	/**
+	 * An attack that missed.
+	 *
+	 * @param attacker the Actor that attacked
+	 * @param target   the Actor that was attacked
+	 * @return the event
+	 */
+	public static Attacked missed(Actor attacker, Actor target) {
+		return new Attacked(attacker, target, null, 0, false);
+	}
+
+	/**
+	 * @return the Actor that attacked
+	 */
+	public Actor getAttacker() {
+		return attacker;
+	}
+
+	/**
+	 * @return the Actor that was attacked
+	 */
+	public Actor getTarget() {
+		return target;
+	}
+
+	/**
+	 * @return how the target was attacked, or null if the attack missed
+	 */
+	public String getVerb() {
+		return verb;
+	}
+
+	/**
+	 * @return how much damage was done; 0 if the attack missed
+	 */
+	public int getDamage() {
+		return damage;
+	}
+
+	/**
+	 * @return true if the attack landed
+	 */
+	public boolean isHit() {
+		return hit;
+	}
+
+	@Override
+	public String describe() {
+		if (!hit)
+			return attacker + " misses " + target + ".";
+		return String.format("%s %s %s for %d damage", attacker, verb, target, damage);
+	}
+}
@@ -0,0 +1,100 @@
+package edu.monash.fit2099.engine.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Passes GameEvents on to whoever is interested in them.
+ * <p>
+ * There are two kinds of subscriber. Typed subscribers get the events themselves, filtered by class, and can
+ * do what they like with them (count them, record them for a replay, etc.). Text subscribers get the description
+ * of every event. Descriptions are only built if there is at least one text subscriber, so when nobody is reading
+ * (e.g. an unattended run with a NullDisplay) no messages are formatted at all.
+ * <p>
+ * World owns the EventBus shared by all of its GameMaps, and subscribes its Display for text.
+ */
+public class EventBus {
+
+	private final List<Subscription<?>> subscriptions = new ArrayList<Subscription<?>>();
+	private final List<Consumer<String>> textSubscribers = new ArrayList<Consumer<String>>();
+
+	/**
+	 * Subscribe to events of a given class, including its subclasses.
+	 *
+	 * @param type       the class of events to receive, e.g. {@code GameEvent.class} for everything
+	 * @param subscriber called with each matching event as it is published or reported
+	 * @param <E>        the type of event
+	 */
+	public <E extends GameEvent> void subscribe(Class<E> type, Consumer<? super E> subscriber) {
+		subscriptions.add(new Subscription<E>(Objects.requireNonNull(type), Objects.requireNonNull(subscriber)));
+	}
+
+	/**
+	 * Subscribe to the descriptions of events published with {@link #publish(GameEvent)}.
+	 *
+	 * @param subscriber called with the description of each event
+	 */
+	public void subscribeText(Consumer<String> subscriber) {
+		textSubscribers.add(Objects.requireNonNull(subscriber));
+	}
+
+	/**
+	 * @return true if anybody wants events described
+	 */
+	public boolean hasTextSubscribers() {
+		return !textSubscribers.isEmpty();
+	}
+
+	/**
+	 * Pass an event to its typed subscribers, then describe it to the text subscribers, if there are any.
+	 *
+	 * @param event the event
+	 */
+	public void publish(GameEvent event) {
+		deliver(event);
+		if (!textSubscribers.isEmpty()) {
+			String text = event.describe();
+			for (int i = 0; i < textSubscribers.size(); i++)
+				textSubscribers.get(i).accept(text);
+		}
+	}
+
+	/**
+	 * Pass an event to its typed subscribers, and return its description for the caller to pass on.
+	 * <p>
+	 * This is for code that has to return a message, such as {@code Action.execute()}: the World shows the
+	 * result of each Action on its Display, so the text subscribers aren't given it as well.
+	 *
+	 * @param event the event
+	 * @return the description of the event, or an empty string if nobody wants text
+	 */
+	public String report(GameEvent event) {
+		deliver(event);
+		return textSubscribers.isEmpty() ? "" : event.describe();
+	}
+
+	private void deliver(GameEvent event) {
+		for (int i = 0; i < subscriptions.size(); i++)
+			subscriptions.get(i).offer(event);
+	}
+
+	/**
+	 * A typed subscriber together with the class of events it wants.
+	 */
+	private static class Subscription<E extends GameEvent> {
+		private final Class<E> type;
+		private final Consumer<? super E> subscriber;
+
+		Subscription(Class<E> type, Consumer<? super E> subscriber) {
+			this.type = type;
+			this.subscriber = subscriber;
+		}
+
+		void offer(GameEvent event) {
+			if (type.isInstance(event))
+				subscriber.accept(type.cast(event));
+		}
+	}
+}
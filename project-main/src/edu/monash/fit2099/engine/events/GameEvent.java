@@ -0,0 +1,19 @@
+package edu.monash.fit2099.engine.events;
+
+/**
+ * Something that happened in the game, e.g. an Actor moving or being attacked.
+ * <p>
+ * Events carry the objects involved rather than a message, so subscribers that only count or record events never
+ * pay for building strings. Subscribers that do want text ask for it with {@link #describe()}.
+ *
+ * @see EventBus
+ */
+public interface GameEvent {
+
+	/**
+	 * Describe what happened, for displaying to the user.
+	 *
+	 * @return a description of the event, e.g. "Player moves east"
+	 */
+	String describe();
+}
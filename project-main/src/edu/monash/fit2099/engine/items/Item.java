@@ -6,6 +6,7 @@ import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.displays.Printable;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.TickPolicy;
 
 /**
  * Abstract base class representing a physical object in the game world.
@@ -40,6 +41,17 @@ public abstract class Item extends GameEntity implements Printable {
 	public void tick(Location currentLocation, Actor actor) {
 	}
 
+	/**
+	 * Says when this Item needs {@link #tick(Location)} called while it is on the ground. Override this to
+	 * return {@link TickPolicy#NEVER} for Items that don't change. Return the same policy object every time.
+	 * Carried Items are always ticked.
+	 *
+	 * @return {@link TickPolicy#ALWAYS}
+	 */
+	public TickPolicy getTickPolicy() {
+		return TickPolicy.ALWAYS;
+	}
+
 	/**
 	 * Inform an Item on the ground of the passage of time.
 	 * This method is called once per turn, if the item rests upon the ground.
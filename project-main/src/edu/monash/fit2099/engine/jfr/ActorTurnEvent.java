@@ -0,0 +1,31 @@
+package edu.monash.fit2099.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for one Actor's turn: choosing an Action and executing it.
+ */
+@Name("eldenthing.ActorTurn")
+@Label("Actor Turn")
+@Category({"Elden Thing", "Engine"})
+@Description("An Actor choosing an Action and executing it")
+@StackTrace(false)
+public class ActorTurnEvent extends Event {
+
+	/**
+	 * The class of the Actor whose turn it was.
+	 */
+	@Label("Actor Class")
+	public Class<?> actorClass;
+
+	/**
+	 * The class of the Action it chose.
+	 */
+	@Label("Action Class")
+	public Class<?> actionClass;
+}
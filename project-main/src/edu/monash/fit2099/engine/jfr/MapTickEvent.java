@@ -0,0 +1,32 @@
+package edu.monash.fit2099.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for a GameMap's tick: everything the Actors on it are carrying, then the squares
+ * that were due to tick.
+ */
+@Name("eldenthing.MapTick")
+@Label("Map Tick")
+@Category({"Elden Thing", "Engine"})
+@Description("A GameMap ticking the things on it")
+@StackTrace(false)
+public class MapTickEvent extends Event {
+
+	/**
+	 * The name of the map.
+	 */
+	@Label("Map")
+	public String map;
+
+	/**
+	 * How many squares were ticked.
+	 */
+	@Label("Tiles Ticked")
+	public int tilesTicked;
+}
@@ -0,0 +1,40 @@
+package edu.monash.fit2099.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for one full turn of the game loop, from ticking the maps to the last Actor's turn.
+ * <p>
+ * World emits this. Like every event in this package it costs nothing unless a recording is running, e.g. one
+ * started with {@code java -XX:StartFlightRecording=filename=game.jfr ...}.
+ */
+@Name("eldenthing.Turn")
+@Label("Turn")
+@Category({"Elden Thing", "Engine"})
+@Description("One full turn of the game loop")
+@StackTrace(false)
+public class TurnEvent extends Event {
+
+	/**
+	 * How many turns had been played before this one, plus one.
+	 */
+	@Label("Turn Number")
+	public long turn;
+
+	/**
+	 * How many Actors were in the World at the end of the turn.
+	 */
+	@Label("Actors")
+	public int actors;
+
+	/**
+	 * The map the player was on.
+	 */
+	@Label("Player's Map")
+	public String map;
+}
@@ -0,0 +1,55 @@
+package edu.monash.fit2099.engine.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count of how many times something has happened.
+ * <p>
+ * The count is striped across threads (it is a {@link LongAdder}), so counting from several threads at once
+ * doesn't make them fight over one memory location. Counting does nothing unless {@link Metrics} are enabled.
+ */
+public class Counter {
+
+	private final String name;
+	private final LongAdder count = new LongAdder();
+
+	Counter(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * @return the name this Counter is registered under
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Count one more.
+	 */
+	public void increment() {
+		if (Metrics.ENABLED)
+			count.increment();
+	}
+
+	/**
+	 * Count several more.
+	 *
+	 * @param amount how many to add
+	 */
+	public void add(long amount) {
+		if (Metrics.ENABLED)
+			count.add(amount);
+	}
+
+	/**
+	 * @return the count so far
+	 */
+	public long get() {
+		return count.sum();
+	}
+
+	void reset() {
+		count.reset();
+	}
+}
@@ -0,0 +1,163 @@
+package edu.monash.fit2099.engine.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in nanoseconds, with buckets whose width grows with the values they hold.
+ * <p>
+ * Values under 32ns get a bucket each. Above that, every power of two is split into 32 equal buckets, so any
+ * value is known to within about 3% however large it is, and the whole histogram is a fixed array of counters
+ * that is never resized. Durations longer than about 4.9 hours are counted in the last bucket.
+ * <p>
+ * Recording is lock-free and safe from any thread. A {@link Snapshot} taken while other threads are recording may
+ * be a fraction of a turn out of date, which is fine for what it's used for.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 44;
+	private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Record one duration.
+	 *
+	 * @param nanos how long it took; negative values are counted as 0
+	 */
+	public void record(long nanos) {
+		if (nanos < 0)
+			nanos = 0;
+		buckets.incrementAndGet(bucketOf(nanos));
+		count.increment();
+		total.add(nanos);
+		max.accumulate(nanos);
+	}
+
+	/**
+	 * Forget everything recorded so far.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++)
+			buckets.set(i, 0);
+		count.reset();
+		total.reset();
+		max.reset();
+	}
+
+	/**
+	 * @return how many durations have been recorded
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Copy the current state of the histogram, so that it can be queried without being changed underneath.
+	 *
+	 * @return the copy
+	 */
+	public Snapshot snapshot() {
+		long[] copy = new long[BUCKETS];
+		long n = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			copy[i] = buckets.get(i);
+			n += copy[i];
+		}
+		return new Snapshot(copy, n, total.sum(), max.get());
+	}
+
+	static int bucketOf(long nanos) {
+		if (nanos < SUB_BUCKETS)
+			return (int) nanos;
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		if (exponent > MAX_EXPONENT)
+			return BUCKETS - 1;
+		int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long highestValueIn(int bucket) {
+		if (bucket < SUB_BUCKETS)
+			return bucket;
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+		return lowest + width - 1;
+	}
+
+	/**
+	 * The state of a LatencyHistogram at some moment.
+	 */
+	public static final class Snapshot {
+
+		private final long[] buckets;
+		private final long count;
+		private final long total;
+		private final long max;
+
+		private Snapshot(long[] buckets, long count, long total, long max) {
+			this.buckets = buckets;
+			this.count = count;
+			this.total = total;
+			this.max = max;
+		}
+
+		/**
+		 * @return how many durations were recorded
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return all the recorded durations added together, in nanoseconds
+		 */
+		public long getTotalNanos() {
+			return total;
+		}
+
+		/**
+		 * @return the average duration in nanoseconds, or 0 if nothing was recorded
+		 */
+		public double getMeanNanos() {
+			return count == 0 ? 0 : (double) total / count;
+		}
+
+		/**
+		 * @return the longest duration recorded, in nanoseconds
+		 */
+		public long getMaxNanos() {
+			return max;
+		}
+
+		/**
+		 * The duration that the given percentage of recorded durations were no longer than, to within the width of
+		 * a bucket.
+		 *
+		 * @param percentile between 0 and 100, e.g. 99 for the 99th percentile
+		 * @return the duration in nanoseconds, or 0 if nothing was recorded
+		 * @throws IllegalArgumentException if the percentile is out of range
+		 */
+		public long getPercentileNanos(double percentile) {
+			if (percentile < 0 || percentile > 100)
+				throw new IllegalArgumentException("Percentile must be between 0 and 100");
+			if (count == 0)
+				return 0;
+			long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+			long seen = 0;
+			for (int i = 0; i < buckets.length; i++) {
+				seen += buckets[i];
+				if (seen >= rank)
+					return Math.min(highestValueIn(i), max);
+			}
+			return max;
+		}
+	}
+}
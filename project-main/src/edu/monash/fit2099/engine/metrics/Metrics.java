@@ -0,0 +1,157 @@
+package edu.monash.fit2099.engine.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * The registry of every {@link Timer} and {@link Counter} in the engine and game, used to find out where the time
+ * in a turn goes.
+ * <p>
+ * Metrics are off unless the JVM is started with {@code -Dengine.metrics=true}. That is checked once, into a
+ * constant, so while they are off the timing calls scattered through the engine cost next to nothing. While they
+ * are on, World times each turn, each map tick, drawing the map, and each Actor's turn, split into deciding what to
+ * do and doing it; other code adds Timers of its own.
+ * <p>
+ * A report of everything recorded is written when a World finishes running, and also every N turns if the JVM is
+ * started with {@code -Dengine.metrics.dumpEvery=N}. It goes to standard error unless {@link #setReporter(Consumer)}
+ * says otherwise. The Timers and Counters can also be looked up and queried at any time.
+ */
+public final class Metrics {
+
+	/**
+	 * Whether metrics are being recorded. This never changes while the program runs.
+	 */
+	static final boolean ENABLED = Boolean.getBoolean("engine.metrics");
+
+	private static final long DUMP_EVERY = Long.getLong("engine.metrics.dumpEvery", 0L);
+
+	private static final Map<String, Timer> timers = new ConcurrentHashMap<String, Timer>();
+	private static final Map<String, Counter> counters = new ConcurrentHashMap<String, Counter>();
+	private static final Counter turns = counter("world.turns");
+	private static volatile Consumer<String> reporter = System.err::print;
+
+	private Metrics() {
+	}
+
+	/**
+	 * @return true if metrics are being recorded
+	 */
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * The time to pass to {@link Timer#stop(long)} when the work is done.
+	 *
+	 * @return the current value of {@link System#nanoTime()}, or 0 if metrics are off
+	 */
+	public static long start() {
+		return ENABLED ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Look up a Timer, creating it the first time it is asked for.
+	 *
+	 * @param name the name of the Timer, e.g. {@code "action.execute"}
+	 * @return the Timer
+	 */
+	public static Timer timer(String name) {
+		Objects.requireNonNull(name);
+		return timers.computeIfAbsent(name, n -> new Timer(n, null));
+	}
+
+	/**
+	 * Look up a Counter, creating it the first time it is asked for.
+	 *
+	 * @param name the name of the Counter
+	 * @return the Counter
+	 */
+	public static Counter counter(String name) {
+		Objects.requireNonNull(name);
+		return counters.computeIfAbsent(name, Counter::new);
+	}
+
+	/**
+	 * Called by World at the end of every turn. Counts the turn, and writes a report if one is due.
+	 */
+	public static void turnEnded() {
+		if (!ENABLED)
+			return;
+		turns.increment();
+		if (DUMP_EVERY > 0 && turns.get() % DUMP_EVERY == 0)
+			dump();
+	}
+
+	/**
+	 * Write a report of everything recorded so far, if metrics are on.
+	 */
+	public static void dump() {
+		if (ENABLED)
+			reporter.accept(report());
+	}
+
+	/**
+	 * Change where reports are written.
+	 *
+	 * @param reporter called with the text of each report
+	 */
+	public static void setReporter(Consumer<String> reporter) {
+		Metrics.reporter = Objects.requireNonNull(reporter);
+	}
+
+	/**
+	 * Forget everything recorded so far, e.g. at the end of a warm-up. The Timers and Counters stay registered.
+	 */
+	public static void reset() {
+		for (Timer timer : timers.values())
+			timer.reset();
+		for (Counter counter : counters.values())
+			counter.reset();
+	}
+
+	/**
+	 * Describe everything recorded so far: a line for every Timer and Counter that has recorded anything, in
+	 * order of name. Times are in microseconds, apart from the total, which is in milliseconds.
+	 *
+	 * @return the report
+	 */
+	public static String report() {
+		StringBuilder report = new StringBuilder();
+		String newLine = System.lineSeparator();
+		report.append(String.format(Locale.ROOT, "Metrics after %d turns%n", turns.get()));
+		report.append(String.format(Locale.ROOT, "%-48s %10s %11s %10s %10s %10s %10s%n",
+				"timer", "count", "total ms", "mean us", "p50 us", "p99 us", "max us"));
+		for (String name : sorted(timers)) {
+			LatencyHistogram.Snapshot snapshot = timers.get(name).snapshot();
+			if (snapshot.getCount() == 0)
+				continue;
+			report.append(String.format(Locale.ROOT, "%-48s %10d %11.1f %10.1f %10.1f %10.1f %10.1f%n",
+					name, snapshot.getCount(), snapshot.getTotalNanos() / 1e6, snapshot.getMeanNanos() / 1e3,
+					snapshot.getPercentileNanos(50) / 1e3, snapshot.getPercentileNanos(99) / 1e3,
+					snapshot.getMaxNanos() / 1e3));
+		}
+		for (String name : sorted(counters)) {
+			long count = counters.get(name).get();
+			if (count != 0)
+				report.append(String.format(Locale.ROOT, "%-48s %10d%n", name, count));
+		}
+		return report.append(newLine).toString();
+	}
+
+	static Timer register(Timer timer) {
+		Timer existing = timers.putIfAbsent(timer.getName(), timer);
+		return existing == null ? timer : existing;
+	}
+
+	private static List<String> sorted(Map<String, ?> metrics) {
+		List<String> names = new ArrayList<String>(metrics.keySet());
+		Collections.sort(names);
+		return names;
+	}
+}
@@ -0,0 +1,92 @@
+package edu.monash.fit2099.engine.metrics;
+
+/**
+ * Times one kind of work, e.g. executing Actions, into a {@link LatencyHistogram}.
+ * <p>
+ * Time a piece of work like this:
+ * <pre>{@code
+ * private static final Timer EXECUTE = Metrics.timer("action.execute");
+ * ...
+ * long start = Metrics.start();
+ * String result = action.execute(actor, map);
+ * EXECUTE.of(action.getClass()).stop(start);
+ * }</pre>
+ * {@link #of(Class)} gives a Timer for just one class, named e.g. {@code action.execute[AttackAction]}, which also
+ * adds what it records to this one, so there is a total as well as a breakdown. When {@link Metrics} are disabled,
+ * none of this does anything beyond checking a constant, which the JIT compiler removes.
+ */
+public class Timer {
+
+	private final String name;
+	private final Timer total;
+	private final LatencyHistogram histogram = new LatencyHistogram();
+	private final ClassValue<Timer> byClass = new ClassValue<Timer>() {
+		@Override
+		protected Timer computeValue(Class<?> type) {
+			return Metrics.register(new Timer(name + "[" + nameOf(type) + "]", Timer.this));
+		}
+	};
+
+	Timer(String name, Timer total) {
+		this.name = name;
+		this.total = total;
+	}
+
+	/**
+	 * @return the name this Timer is registered under
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * The Timer for the work done by one class.
+	 *
+	 * @param type the class, e.g. of the Action being executed
+	 * @return a Timer that records into its own histogram as well as this one's; or this Timer, if metrics are off
+	 */
+	public Timer of(Class<?> type) {
+		if (!Metrics.ENABLED || total != null)
+			return this;
+		return byClass.get(type);
+	}
+
+	/**
+	 * Record the time since {@code start}.
+	 *
+	 * @param start the result of {@link Metrics#start()} when the work began
+	 */
+	public void stop(long start) {
+		if (Metrics.ENABLED)
+			record(System.nanoTime() - start);
+	}
+
+	/**
+	 * Record a duration measured some other way.
+	 *
+	 * @param nanos how long the work took
+	 */
+	public void record(long nanos) {
+		if (!Metrics.ENABLED)
+			return;
+		histogram.record(nanos);
+		if (total != null)
+			total.histogram.record(nanos);
+	}
+
+	/**
+	 * @return everything recorded so far
+	 */
+	public LatencyHistogram.Snapshot snapshot() {
+		return histogram.snapshot();
+	}
+
+	void reset() {
+		histogram.reset();
+	}
+
+	private static String nameOf(Class<?> type) {
+		String simple = type.getSimpleName();
+		return simple.isEmpty() ? type.getName() : simple;
+	}
+}
@@ -0,0 +1,454 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.Printable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A GameMap for very large worlds.
+ * <p>
+ * This works best when the default Ground is registered as shared with the GroundFactory.
+ * <p>
+ * The map is split into square chunks of {@value #CHUNK_SIZE} x {@value #CHUNK_SIZE} squares. A chunk that nobody
+ * has looked at is just its default Ground: no Locations, no occupancy grid, and no ground layer until a square is
+ * given a different Ground. The first time one of its Locations is asked for (by {@link #at(int, int)}, by an
+ * Actor arriving, by an Exit from next door being looked through, etc.) the chunk is <i>loaded</i>, and from then
+ * on time passes in it, just like an ordinary GameMap: each chunk keeps track of which of its squares have a Ground
+ * or items that need ticking, and only those squares are visited. A Location is only made for a square when
+ * something asks for it, or it has something due to tick. Squares in chunks that aren't loaded don't tick.
+ * <p>
+ * A loaded chunk that hasn't been touched for a while, and has no Actors, items or custom exits in it, is
+ * unloaded back to its compact form: its Locations are thrown away, and its ground layer is kept only if it
+ * isn't all default Ground. The map's own ticking, and {@link #forEachLoadedLocation(Consumer)}, don't count as
+ * touching a chunk, so a chunk of Ground that ticks (and looks around itself while it does) can still be unloaded
+ * once nobody is near it. Anyone still holding one of those Locations can keep using it; it forwards to the new
+ * Location the next time the square is needed.
+ * <p>
+ * Reading the Ground of a square whose chunk is all default Ground gives the map's one default Ground, whether or
+ * not it is registered as shared; the ground layer is only filled in when a square is given a different Ground.
+ */
+public class ChunkedGameMap extends GameMap {
+
+	/**
+	 * Width and height of a chunk, in squares
+	 */
+	public static final int CHUNK_SIZE = 32;
+	/**
+	 * How many turns a chunk is kept loaded after it was last touched, if not told otherwise
+	 */
+	public static final int DEFAULT_IDLE_TURNS = 20;
+
+	private final int idleTurnsBeforeUnload;
+	private final char defaultGroundChar;
+	private final Ground defaultGround;
+	private int chunksAcross;
+	private Chunk[] chunks;
+	private final List<Chunk> loadedChunks = new ArrayList<Chunk>();
+	private long turn;
+	private boolean housekeeping; // true while the map is ticking or being looked over, which doesn't touch chunks
+
+	/**
+	 * Constructor.
+	 *
+	 * @param name          Name of the map
+	 * @param groundFactory Factory to create Ground objects
+	 * @param groundChar    Symbol that will represent the default Ground in this map
+	 * @param width         width of the GameMap, in characters
+	 * @param height        height of the GameMap, in characters
+	 */
+	public ChunkedGameMap(String name, GroundFactory groundFactory, char groundChar, int width, int height) {
+		this(name, groundFactory, groundChar, width, height, DEFAULT_IDLE_TURNS);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param name                  Name of the map
+	 * @param groundFactory         Factory to create Ground objects
+	 * @param groundChar            Symbol that will represent the default Ground in this map
+	 * @param width                 width of the GameMap, in characters
+	 * @param height                height of the GameMap, in characters
+	 * @param idleTurnsBeforeUnload how many turns an untouched chunk stays loaded
+	 */
+	public ChunkedGameMap(String name, GroundFactory groundFactory, char groundChar, int width, int height,
+						  int idleTurnsBeforeUnload) {
+		super(name, groundFactory);
+		if (groundChar <= 0 || width <= 0 || height <= 0 || idleTurnsBeforeUnload < 0)
+			throw new IllegalArgumentException();
+
+		this.idleTurnsBeforeUnload = idleTurnsBeforeUnload;
+		this.defaultGroundChar = groundChar;
+		this.defaultGround = groundFactory.newGround(groundChar);
+		initMap(width, height);
+	}
+
+	/**
+	 * Sets up the chunk table. No squares are created.
+	 *
+	 * @param width  width of the map, in characters
+	 * @param height height of the map, in characters
+	 */
+	@Override
+	protected void initMap(int width, int height) {
+		widths = new NumberRange(0, width);
+		heights = new NumberRange(0, height);
+		chunksAcross = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		int chunksDown = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		chunks = new Chunk[chunksAcross * chunksDown];
+		scheduler = new TickScheduler();
+	}
+
+	/**
+	 * Keeps track of what needs ticking in the Location's chunk, if it is loaded. A chunk works it out afresh
+	 * when it is loaded.
+	 */
+	@Override
+	protected void groundChanged(Location location, Ground oldGround, Ground newGround) {
+		chunkAt(location.x(), location.y()).groundChanged(location.x(), location.y(), oldGround, newGround);
+	}
+
+	/**
+	 * Keeps track of what needs ticking in the Location's chunk, which is loaded, since it has a live Location.
+	 */
+	@Override
+	protected void itemsChanged(Location location, boolean hasItems) {
+		Chunk chunk = chunkAt(location.x(), location.y());
+		if (chunk.isLoaded())
+			chunk.ticks.itemsChanged(chunk.indexOf(location.x(), location.y()), hasItems);
+	}
+
+	/**
+	 * Returns the Location at these coordinates, loading its chunk if necessary.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the Location at (x, y)
+	 */
+	@Override
+	public Location at(int x, int y) {
+		Chunk chunk = chunkAt(x, y);
+		chunk.touch();
+		return chunk.location(x, y);
+	}
+
+	@Override
+	public OccupancyGrid occupancyAt(int x, int y) {
+		Chunk chunk = chunkAt(x, y);
+		chunk.touch();
+		return chunk.occupancy;
+	}
+
+	/**
+	 * Returns the Ground on a square, without loading its chunk or making room for its Ground.
+	 */
+	@Override
+	protected Ground groundAt(int x, int y) {
+		return chunkAt(x, y).groundAt(x, y);
+	}
+
+	/**
+	 * Puts a Ground on a square. This is the only time a chunk's ground layer is filled in.
+	 */
+	@Override
+	protected Ground replaceGround(int x, int y, Ground ground) {
+		GroundLayer layer = chunkAt(x, y).grounds();
+		Ground oldGround = layer.get(x, y);
+		layer.set(x, y, ground);
+		return oldGround;
+	}
+
+	/**
+	 * Set the Ground type in a rectangle, without creating any Locations.
+	 *
+	 * @param groundChar the character representing the Ground to set
+	 * @param xs         the range of X coordinates
+	 * @param ys         the range of Y coordinates
+	 */
+	@Override
+	public void add(char groundChar, NumberRange xs, NumberRange ys) {
+		if (xs.size() == 0 || ys.size() == 0)
+			return;
+
+		for (int x = xs.min(); x <= xs.max(); x++) {
+			for (int y = ys.min(); y <= ys.max(); y++) {
+				Chunk chunk = chunkAt(x, y);
+				GroundLayer layer = chunk.grounds();
+				Ground oldGround = layer.get(x, y);
+				Ground newGround = groundFactory.newGround(groundChar);
+				layer.set(x, y, newGround);
+				chunk.groundChanged(x, y, oldGround, newGround);
+			}
+		}
+	}
+
+	/**
+	 * Draws the map without loading any chunks, or making any Locations. Squares without a Location are drawn as
+	 * their Actor, if any, or else their Ground.
+	 *
+	 * @param display Display that will draw the state of the game
+	 */
+	@Override
+	public void draw(Display display) {
+		int width = getWidth();
+		int height = getHeight();
+		display.beginFrame(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				Chunk chunk = chunks[chunkIndexOf(x, y)];
+				if (chunk == null)
+					display.print(defaultGround);
+				else
+					display.print(chunk.printableAt(x, y));
+			}
+			display.endLine();
+		}
+		display.endFrame();
+	}
+
+	/**
+	 * Visit every Location on the map, row by row from the top left.
+	 * <p>
+	 * This loads every chunk, so it defeats the point of a ChunkedGameMap on a large map.
+	 *
+	 * @param visitor what to do with each Location
+	 */
+	@Override
+	public void forEachLocation(Consumer<? super Location> visitor) {
+		int width = getWidth();
+		int height = getHeight();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				visitor.accept(at(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Visit the Locations that are in memory, chunk by chunk, without loading anything or keeping any chunk loaded
+	 * for longer. Squares that have never been looked at have no Location, and nothing is on them but their Ground.
+	 * The visitor mustn't load more chunks.
+	 *
+	 * @param visitor what to do with each Location
+	 */
+	public void forEachLoadedLocation(Consumer<? super Location> visitor) {
+		housekeeping = true;
+		try {
+			for (Chunk chunk : loadedChunks) {
+				for (Location location : chunk.locations) {
+					if (location != null)
+						visitor.accept(location);
+				}
+			}
+		} finally {
+			housekeeping = false;
+		}
+	}
+
+	/**
+	 * Ticks the squares in the loaded chunks that have something due, going by the {@link TickPolicy TickPolicies}
+	 * of their Ground and items, then unloads chunks that have been idle for long enough.
+	 */
+	@Override
+	protected void tickLocations() {
+		turn++;
+		scheduler.beginTurn();
+
+		// Ticking can load more chunks (e.g. a zombie spawning next to a chunk boundary), and those wait for next turn.
+		housekeeping = true;
+		try {
+			int loaded = loadedChunks.size();
+			for (int i = 0; i < loaded; i++) {
+				loadedChunks.get(i).tick();
+			}
+		} finally {
+			housekeeping = false;
+		}
+
+		Iterator<Chunk> iterator = loadedChunks.iterator();
+		while (iterator.hasNext()) {
+			Chunk chunk = iterator.next();
+			if (chunk.canUnload()) {
+				chunk.unload();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of chunks that currently have Locations in memory
+	 */
+	public int getLoadedChunkCount() {
+		return loadedChunks.size();
+	}
+
+	/**
+	 * Returns the chunk containing (x, y), creating it in its compact form if it doesn't exist yet.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the chunk
+	 * @throws IndexOutOfBoundsException if (x, y) is not on the map
+	 */
+	private Chunk chunkAt(int x, int y) {
+		if (!isOnMap(x, y))
+			throw new IndexOutOfBoundsException(String.format("(%d, %d) is not on %s", x, y, this));
+
+		int index = chunkIndexOf(x, y);
+		Chunk chunk = chunks[index];
+		if (chunk == null) {
+			int originX = x - x % CHUNK_SIZE;
+			int originY = y - y % CHUNK_SIZE;
+			chunk = new Chunk(originX, originY,
+					Math.min(CHUNK_SIZE, getWidth() - originX), Math.min(CHUNK_SIZE, getHeight() - originY));
+			chunks[index] = chunk;
+		}
+		return chunk;
+	}
+
+	private int chunkIndexOf(int x, int y) {
+		return (y / CHUNK_SIZE) * chunksAcross + x / CHUNK_SIZE;
+	}
+
+	/**
+	 * A square block of the map.
+	 */
+	private class Chunk {
+		private final int originX;
+		private final int originY;
+		private final int width;
+		private final int height;
+		private GroundLayer grounds; // null while every square is the default Ground
+		private Location[] locations; // null while the chunk isn't loaded
+		private OccupancyGrid occupancy; // null while the chunk isn't loaded
+		private TickScheduler ticks; // null while the chunk isn't loaded; indexed from the chunk's top left
+		private long lastTouched;
+
+		Chunk(int originX, int originY, int width, int height) {
+			this.originX = originX;
+			this.originY = originY;
+			this.width = width;
+			this.height = height;
+		}
+
+		boolean isLoaded() {
+			return locations != null;
+		}
+
+		/**
+		 * Notes that the chunk is in use, loading it if it isn't already. While the map is ticking or being looked
+		 * over, a chunk that is already loaded isn't counted as in use.
+		 */
+		void touch() {
+			if (!isLoaded()) {
+				load();
+				lastTouched = turn;
+			} else if (!housekeeping) {
+				lastTouched = turn;
+			}
+		}
+
+		/**
+		 * Makes room for Locations and Actors, and works out which squares have a Ground that needs ticking.
+		 */
+		private void load() {
+			locations = new Location[width * height];
+			occupancy = new OccupancyGrid(originX, originY, width, height);
+			ticks = new TickScheduler();
+			if (grounds != null || defaultGround.getTickPolicy() != TickPolicy.NEVER) {
+				for (int y = originY; y < originY + height; y++) {
+					for (int x = originX; x < originX + width; x++) {
+						ticks.groundChanged(indexOf(x, y), null, groundAt(x, y));
+					}
+				}
+			}
+			loadedChunks.add(this);
+		}
+
+		/**
+		 * Keeps track of a change of Ground, if the chunk is loaded.
+		 */
+		void groundChanged(int x, int y, Ground oldGround, Ground newGround) {
+			if (isLoaded())
+				ticks.groundChanged(indexOf(x, y), oldGround, newGround);
+		}
+
+		int indexOf(int x, int y) {
+			return (y - originY) * width + (x - originX);
+		}
+
+		/**
+		 * What to draw for a square: its Location if it has one, or else its Actor or Ground.
+		 */
+		Printable printableAt(int x, int y) {
+			if (isLoaded()) {
+				Location location = locations[indexOf(x, y)];
+				if (location != null)
+					return location;
+				Actor actor = occupancy.getActorAt(x, y);
+				if (actor != null)
+					return actor;
+			}
+			return groundAt(x, y);
+		}
+
+		Ground groundAt(int x, int y) {
+			return grounds == null ? defaultGround : grounds.get(x, y);
+		}
+
+		/**
+		 * Returns the Location for a square in this chunk, creating it if necessary. The chunk must be loaded.
+		 */
+		Location location(int x, int y) {
+			int index = indexOf(x, y);
+			Location location = locations[index];
+			if (location == null) {
+				location = makeNewLocation(x, y);
+				locations[index] = location;
+			}
+			return location;
+		}
+
+		/**
+		 * Returns the ground layer, expanding it from the default Ground if necessary.
+		 */
+		GroundLayer grounds() {
+			if (grounds == null) {
+				grounds = new GroundLayer(originX, originY, width, height);
+				for (int y = originY; y < originY + height; y++) {
+					for (int x = originX; x < originX + width; x++) {
+						grounds.set(x, y, defaultGround.isShared() ? defaultGround : groundFactory.newGround(defaultGroundChar));
+					}
+				}
+			}
+			return grounds;
+		}
+
+		void tick() {
+			ticks.tickDue(index -> location(originX + index % width, originY + index / width), scheduler.dueCheck());
+		}
+
+		boolean canUnload() {
+			if (turn - lastTouched <= idleTurnsBeforeUnload || !occupancy.isEmpty())
+				return false;
+
+			for (Location location : locations) {
+				if (location != null && !location.isPristine())
+					return false;
+			}
+			return true;
+		}
+
+		void unload() {
+			locations = null;
+			occupancy = null;
+			ticks = null;
+			if (grounds != null && grounds.isAll(defaultGround))
+				grounds = null;
+		}
+	}
+}
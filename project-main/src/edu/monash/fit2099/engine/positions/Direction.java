@@ -0,0 +1,71 @@
+package edu.monash.fit2099.engine.positions;
+
+/**
+ * The eight compass directions that connect neighbouring Locations on a GameMap.
+ * <p>
+ * Each direction knows its offset, its name and the hotkey the menu uses for it, so this
+ * one table is shared by every map instead of each Location carrying its own copy.
+ * Directions are declared in the order their Exits are listed.
+ */
+public enum Direction {
+	NORTH(0, -1, "North", "8"),
+	NORTH_EAST(1, -1, "North-East", "9"),
+	EAST(1, 0, "East", "6"),
+	SOUTH_EAST(1, 1, "South-East", "3"),
+	SOUTH(0, 1, "South", "2"),
+	SOUTH_WEST(-1, 1, "South-West", "1"),
+	WEST(-1, 0, "West", "4"),
+	NORTH_WEST(-1, -1, "North-West", "7");
+
+	private static final Direction[] ALL = values();
+
+	private final int dx;
+	private final int dy;
+	private final String name;
+	private final String hotKey;
+
+	Direction(int dx, int dy, String name, String hotKey) {
+		this.dx = dx;
+		this.dy = dy;
+		this.name = name;
+		this.hotKey = hotKey;
+	}
+
+	/**
+	 * @return how far this direction moves across
+	 */
+	public int dx() {
+		return dx;
+	}
+
+	/**
+	 * @return how far this direction moves down
+	 */
+	public int dy() {
+		return dy;
+	}
+
+	/**
+	 * @return the name of this direction, e.g. "North-East"
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the menu hotkey for moving in this direction
+	 */
+	public String getHotKey() {
+		return hotKey;
+	}
+
+	/**
+	 * Returns every direction, in Exit order, without copying the array each time like
+	 * {@link #values()} does. Callers must not modify it.
+	 *
+	 * @return the shared array of all directions
+	 */
+	static Direction[] all() {
+		return ALL;
+	}
+}
@@ -1,5 +1,7 @@
 package edu.monash.fit2099.engine.positions;
 
+import java.util.Objects;
+
 /**
  * Class that represents a route from one Location to another.
  */
@@ -44,4 +46,27 @@ public class Exit {
 	public String getHotKey() {
 		return hotKey;
 	}
+
+	/**
+	 * Two Exits are equal if they have the same name and hotkey and lead to the same Location, so an Exit read from
+	 * {@link Location#getExits()} can be passed to {@link Location#removeExit(Exit)} even if the list made it afresh.
+	 *
+	 * @param other the object to compare with
+	 * @return true if other is the same route
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if (this == other)
+			return true;
+		if (!(other instanceof Exit))
+			return false;
+		Exit exit = (Exit) other;
+		return Objects.equals(name, exit.name) && Objects.equals(destination, exit.destination)
+				&& Objects.equals(hotKey, exit.hotKey);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(name, destination, hotKey);
+	}
 }
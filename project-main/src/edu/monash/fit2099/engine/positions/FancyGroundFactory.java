@@ -3,14 +3,26 @@ package edu.monash.fit2099.engine.positions;
 import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Class that can create different types of Ground based on the character that
  * represents it.
+ * <p>
+ * Each Ground type is registered with a Supplier that makes new instances of it.
+ * Stateless types should be registered with {@link #registerShared(Supplier)}, so that every
+ * square of that type gets the same instance; everything else gets a new instance per square.
  */
 public class FancyGroundFactory implements GroundFactory {
 
-	private Map<Character, Constructor<? extends Ground>> map = new HashMap<>();
+	private final Map<Character, Supplier<? extends Ground>> suppliers = new HashMap<>();
+	private final Map<Character, Ground> sharedGrounds = new HashMap<>();
+
+	/**
+	 * Constructor for a factory that Ground types will be registered with.
+	 */
+	public FancyGroundFactory() {
+	}
 
 	/**
 	 * Constructor.
@@ -20,16 +32,23 @@ public class FancyGroundFactory implements GroundFactory {
 	 * that represents them. This means that GameMaps will not be able to have
 	 * different types of terrain that have identical characters representing them,
 	 * but that would make the maps look confusing in the UI anyway.
+	 * <p>
+	 * Every square gets its own instance, created through the Ground's no-arg constructor.
+	 * Prefer {@link #register(Supplier)} and {@link #registerShared(Supplier)}, which don't need reflection.
 	 *
 	 * @param groundTypes A collection of all types of ground required for a GameMap
 	 */
 	public FancyGroundFactory(Ground... groundTypes) {
 		for (Ground ground : groundTypes) {
 			try {
-				Class<? extends Ground> cls = ground.getClass();
-				Constructor<? extends Ground> constructor;
-				constructor = cls.getConstructor();
-				map.put(ground.getDisplayChar(), constructor);
+				Constructor<? extends Ground> constructor = ground.getClass().getConstructor();
+				suppliers.put(ground.getDisplayChar(), () -> {
+					try {
+						return constructor.newInstance();
+					} catch (ReflectiveOperationException e) {
+						throw new IllegalStateException(e);
+					}
+				});
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
@@ -37,18 +56,60 @@ public class FancyGroundFactory implements GroundFactory {
 	}
 
 	/**
-	 * Given a character, returns a new instance of the Ground type represented by it.
+	 * Register a Ground type that gets a new instance on every square, e.g. because it keeps state.
+	 *
+	 * @param supplier makes a new instance of the Ground type
+	 * @return this factory, so registrations can be chained
+	 */
+	public FancyGroundFactory register(Supplier<? extends Ground> supplier) {
+		char displayChar = supplier.get().getDisplayChar();
+		suppliers.put(displayChar, supplier);
+		sharedGrounds.remove(displayChar);
+		return this;
+	}
+
+	/**
+	 * Register a stateless Ground type. One instance is made up front and handed out for every square of that type.
+	 *
+	 * @param supplier makes a new instance of the Ground type
+	 * @return this factory, so registrations can be chained
+	 */
+	public FancyGroundFactory registerShared(Supplier<? extends Ground> supplier) {
+		Ground ground = supplier.get();
+		ground.markShared();
+		suppliers.put(ground.getDisplayChar(), supplier);
+		sharedGrounds.put(ground.getDisplayChar(), ground);
+		return this;
+	}
+
+	/**
+	 * Given a character, returns the Ground type represented by it: the shared instance if the type
+	 * was registered as shared, otherwise a new instance.
 	 *
 	 * @param displayChar character that represents this Ground in the UI
-	 * @return an instance of a concrete subclass of Ground
+	 * @return an instance of a concrete subclass of Ground, or null if the character isn't registered
 	 */
 	@Override
 	public Ground newGround(char displayChar) {
-		try {
-			return map.get(displayChar).newInstance();
-		} catch (Exception e) {
-			e.printStackTrace();
+		Ground shared = sharedGrounds.get(displayChar);
+		if (shared != null)
+			return shared;
+		return newPrivateGround(displayChar);
+	}
+
+	/**
+	 * Given a character, returns a new instance of the Ground type represented by it.
+	 *
+	 * @param displayChar character that represents this Ground in the UI
+	 * @return a new instance of a concrete subclass of Ground, or null if the character isn't registered
+	 */
+	@Override
+	public Ground newPrivateGround(char displayChar) {
+		Supplier<? extends Ground> supplier = suppliers.get(displayChar);
+		if (supplier == null) {
+			new IllegalArgumentException("No Ground registered for '" + displayChar + "'").printStackTrace();
+			return null;
 		}
-		return null;
+		return supplier.get();
 	}
-}
\ No newline at end of file
+}
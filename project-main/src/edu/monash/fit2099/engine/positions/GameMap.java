@@ -4,7 +4,11 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
 import edu.monash.fit2099.engine.actors.StatusEffect;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.events.EventBus;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.jfr.MapTickEvent;
+import edu.monash.fit2099.engine.metrics.Metrics;
+import edu.monash.fit2099.engine.metrics.Timer;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -12,6 +16,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Class representing one map within the system.
@@ -24,13 +29,21 @@ import java.util.Objects;
  * It's important to put the GameMap in the World before using it.
  */
 public class GameMap {
+    private static final Timer TICK = Metrics.timer("map.tick");
+    private static final Timer TICK_LOCATIONS = Metrics.timer("map.tickLocations");
+
 
     protected NumberRange heights;
     protected NumberRange widths;
     protected Location[][] map;
+    protected OccupancyGrid occupancy;
+    protected GroundLayer grounds;
+    TickScheduler scheduler;
     protected ActorLocationsIterator actorLocations;
+    protected EventBus events = new EventBus();
     protected GroundFactory groundFactory;
     protected String name;
+    int tilesTicked; // Counted by Location, for MapTickEvent
 
     /**
      * Constructor.
@@ -50,8 +63,8 @@ public class GameMap {
         this.groundFactory = groundFactory;
         initMap(width, height);
 
-        for (int x : widths) {
-            for (int y : heights) {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
                 at(x, y).setGround(groundFactory.newGround(groundChar));
             }
         }
@@ -73,6 +86,19 @@ public class GameMap {
         createMapFromStrings(groundFactory, lines);
     }
 
+    /**
+     * Constructor for subclasses that set up their own storage. The subclass must call
+     * {@link #initMap(int, int)} (or set the ranges and override the storage hooks) itself.
+     *
+     * @param name          Name of the map
+     * @param groundFactory Factory to create Ground objects
+     */
+    protected GameMap(String name, GroundFactory groundFactory) {
+        Objects.requireNonNull(groundFactory);
+        this.name = name;
+        this.groundFactory = groundFactory;
+    }
+
     /**
      * Constructor that reads a map from file.
      *
@@ -96,8 +122,8 @@ public class GameMap {
         int height = lines.size();
         initMap(width, height);
 
-        for (int x : widths) {
-            for (int y : heights) {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
                 char groundChar = lines.get(y).charAt(x);
                 at(x, y).setGround(groundFactory.newGround(groundChar));
             }
@@ -114,26 +140,42 @@ public class GameMap {
         widths = new NumberRange(0, width);
         heights = new NumberRange(0, height);
         map = new Location[width][height]; // Note the ordering. 0, 0 is the top left.
+        occupancy = new OccupancyGrid(width, height);
+        grounds = new GroundLayer(width, height);
+        scheduler = new TickScheduler();
         // First arg is across, second down
-        for (int x : widths) {
-            for (int y : heights) {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
                 map[x][y] = makeNewLocation(x, y);
             }
         }
 
-        for (int x : widths) {
-            for (int y : heights) {
-                Location here = this.at(x, y);
-                addExitFromHere(here, x, y - 1, "North", "8");
-                addExitFromHere(here, x + 1, y - 1, "North-East", "9");
-                addExitFromHere(here, x + 1, y, "East", "6");
-                addExitFromHere(here, x + 1, y + 1, "South-East", "3");
-                addExitFromHere(here, x, y + 1, "South", "2");
-                addExitFromHere(here, x - 1, y + 1, "South-West", "1");
-                addExitFromHere(here, x - 1, y, "West", "4");
-                addExitFromHere(here, x - 1, y - 1, "North-West", "7");
-            }
-        }
+        // Exits aren't built here. Each Location asks for them the first time they're needed.
+    }
+
+    /**
+     * Returns the standard Exits from a Location to each of its neighbours on this map.
+     * <p>
+     * The default is a read-only view that looks up each neighbour as it is read, so a Location doesn't keep a
+     * list of Exits unless they are changed with {@link Location#addExit(Exit)} or {@link Location#removeExit(Exit)}.
+     * Override this if you want a map with different connectivity.
+     *
+     * @param here the Location the Exits lead from
+     * @return the Exits, which the caller mustn't modify
+     */
+    protected List<Exit> makeExits(Location here) {
+        return new NeighbourExits(this, here.x(), here.y());
+    }
+
+    /**
+     * Are the given coordinates on this map?
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return true if (x, y) is a valid Location on this map
+     */
+    protected boolean isOnMap(int x, int y) {
+        return widths.contains(x) && heights.contains(y);
     }
 
     /**
@@ -146,7 +188,7 @@ public class GameMap {
      * @param hotKey the hotkey for the appropriate Action
      */
     protected void addExitFromHere(Location here, int x, int y, String name, String hotKey) {
-        if (widths.contains(x) && heights.contains(y)) {
+        if (isOnMap(x, y)) {
             here.addExit(new Exit(name, this.at(x, y), hotKey));
         }
     }
@@ -173,12 +215,16 @@ public class GameMap {
      * @param display Display that will draw the state of the game
      */
     public void draw(Display display) {
-        for (int y : heights) {
-            for (int x : widths) {
+        int width = getWidth();
+        int height = getHeight();
+        display.beginFrame(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
                 display.print(this.at(x, y));
             }
             display.endLine();
         }
+        display.endFrame();
     }
 
     /**
@@ -200,8 +246,11 @@ public class GameMap {
      * @param ys         the range of Y coordinates
      */
     public void add(char groundChar, NumberRange xs, NumberRange ys) {
-        for (int x : xs) {
-            for (int y : ys) {
+        if (xs.size() == 0 || ys.size() == 0)
+            return;
+
+        for (int x = xs.min(); x <= xs.max(); x++) {
+            for (int y = ys.min(); y <= ys.max(); y++) {
                 at(x, y).setGround(groundFactory.newGround(groundChar));
             }
         }
@@ -225,13 +274,119 @@ public class GameMap {
         return heights;
     }
 
+    /**
+     * Returns the width of the map.
+     *
+     * @return the number of columns
+     */
+    public int getWidth() {
+        return widths.size();
+    }
+
+    /**
+     * Returns the height of the map.
+     *
+     * @return the number of rows
+     */
+    public int getHeight() {
+        return heights.size();
+    }
+
+    /**
+     * Returns the tile index of the given coordinates. Tiles are numbered row by row from the top left,
+     * so the index runs from 0 to {@code getWidth() * getHeight() - 1}.
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return y * width + x
+     */
+    public int indexOf(int x, int y) {
+        return y * getWidth() + x;
+    }
+
+    /**
+     * Returns the Location with the given tile index.
+     *
+     * @param index the tile index, as returned by {@link #indexOf(int, int)}
+     * @return the Location at that index
+     */
+    public Location atIndex(int index) {
+        int width = getWidth();
+        return at(index % width, index / width);
+    }
+
+    /**
+     * Visit every Location on the map, row by row from the top left.
+     * <p>
+     * Unlike iterating over {@link #getXRange()} and {@link #getYRange()}, this doesn't box any coordinates.
+     *
+     * @param visitor what to do with each Location
+     */
+    public void forEachLocation(Consumer<? super Location> visitor) {
+        int width = getWidth();
+        int height = getHeight();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                visitor.accept(map[x][y]);
+            }
+        }
+    }
+
+    /**
+     * Returns the grid recording which Actor stands on the given square of this map.
+     * <p>
+     * Override this, along with {@link #groundAt(int, int)}, {@link #replaceGround(int, int, Ground)} and
+     * {@link #at(int, int)}, if you want a map that
+     * stores its squares differently.
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return the occupancy grid covering (x, y)
+     */
+    public OccupancyGrid occupancyAt(int x, int y) {
+        return occupancy;
+    }
+
+    /**
+     * Returns the Ground on the given square of this map.
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return the Ground at (x, y)
+     */
+    protected Ground groundAt(int x, int y) {
+        return grounds.get(x, y);
+    }
+
+    /**
+     * Puts a Ground on the given square of this map. Only {@link Location#setGround(Ground)} should call this, so
+     * that the map hears about the change.
+     *
+     * @param x      X coordinate
+     * @param y      Y coordinate
+     * @param ground the new Ground
+     * @return the Ground that was there before
+     */
+    protected Ground replaceGround(int x, int y, Ground ground) {
+        Ground oldGround = grounds.get(x, y);
+        grounds.set(x, y, ground);
+        return oldGround;
+    }
+
     /**
      * Called once per turn, so that maps can experience the passage of time.
+     * <p>
+     * When {@link Metrics} are on, the whole tick and the Location part of it are timed separately. The tick is also
+     * a Flight Recorder event ({@link MapTickEvent}).
      */
     public void tick() {
+        long start = Metrics.start();
+        MapTickEvent event = new MapTickEvent();
+        event.begin();
+        tilesTicked = 0;
         // Tick over all the items in inventories as well as the status effects held by the current actor.
-        for (Actor actor : actorLocations) {
-            if (this.contains(actor)) {
+        for (Actor actor : actorLocations.actorsOn(this)) {
+            if (this.contains(actor)) { // Skip any actor that has left this map during the tick
                 for (Item item : new ArrayList<Item>(actor.getItemInventory())) { // Copy the list in case the item wants to leave
                     item.tick(actorLocations.locationOf(actor), actor);
                 }
@@ -241,13 +396,46 @@ public class GameMap {
             }
         }
 
-        for (int y : heights) {
-            for (int x : widths) {
-                this.at(x, y).tick();
-            }
+        long locationsStart = Metrics.start();
+        tickLocations();
+        TICK_LOCATIONS.stop(locationsStart);
+        TICK.of(getClass()).stop(start);
+        if (event.shouldCommit()) {
+            event.map = name;
+            event.tilesTicked = tilesTicked;
+            event.commit();
         }
     }
 
+    /**
+     * Ticks the Locations that have something due to tick, going by the {@link TickPolicy TickPolicies} of their
+     * Ground and items. Squares where nothing needs ticking cost nothing.
+     */
+    protected void tickLocations() {
+        scheduler.tick(this);
+    }
+
+    /**
+     * Called when the Ground at a Location is replaced, so the map can keep track of what needs ticking.
+     *
+     * @param location  the Location whose Ground changed
+     * @param oldGround the Ground that was there, or null
+     * @param newGround the Ground that is there now
+     */
+    protected void groundChanged(Location location, Ground oldGround, Ground newGround) {
+        scheduler.groundChanged(indexOf(location.x(), location.y()), oldGround, newGround);
+    }
+
+    /**
+     * Called when the first item is dropped on a Location, or the last one is taken away.
+     *
+     * @param location the Location
+     * @param hasItems true if there are now items there
+     */
+    protected void itemsChanged(Location location, boolean hasItems) {
+        scheduler.itemsChanged(indexOf(location.x(), location.y()), hasItems);
+    }
+
     /**
      * Returns a reference to the Actor at the given location, if there is one.
      *
@@ -255,7 +443,7 @@ public class GameMap {
      * @return a reference to the Actor, or null if there isn't one
      */
     public Actor getActorAt(Location location) {
-        return actorLocations.getActorAt(location);
+        return location.map().occupancyAt(location.x(), location.y()).getActorAt(location.x(), location.y());
     }
 
     /**
@@ -309,7 +497,7 @@ public class GameMap {
      * @return true if and only if an Actor is at the given Location.
      */
     public boolean isAnActorAt(Location location) {
-        return actorLocations.isAnActorAt(location);
+        return location.map().occupancyAt(location.x(), location.y()).isOccupied(location.x(), location.y());
     }
 
     /**
@@ -322,6 +510,15 @@ public class GameMap {
         return actorLocations.contains(actor) && actorLocations.locationOf(actor).map() == this;
     }
 
+    /**
+     * The EventBus for things that happen on this map. This is shared by every map in the World.
+     *
+     * @return the EventBus
+     */
+    public EventBus events() {
+        return events;
+    }
+
     /**
      * The toString method of the GameMap class should only print out its name, e.g. Caelid
      *
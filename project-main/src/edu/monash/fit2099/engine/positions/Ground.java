@@ -7,11 +7,15 @@ import edu.monash.fit2099.engine.displays.Printable;
 
 /**
  * Class representing terrain type
+ * <p>
+ * A GroundFactory may hand out one <i>shared</i> instance of a stateless Ground for every square of that type.
+ * Shared Grounds can't be modified; use {@link Location#getOwnGround()} to get a private copy first.
  */
 public abstract class Ground extends GameEntity implements Printable {
 
     private char displayChar;
     private String name;
+    private boolean shared;
 
     /**
      * Constructor.
@@ -29,9 +33,60 @@ public abstract class Ground extends GameEntity implements Printable {
     }
 
     protected final void setDisplayChar(char displayChar) {
+        checkNotShared();
         this.displayChar = displayChar;
     }
 
+    /**
+     * Is this one instance standing in for the Ground on many squares?
+     *
+     * @return true if this Ground is shared
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    /**
+     * Marks this Ground as shared between squares. Only GroundFactories should do this, and only
+     * for Ground types that don't keep any per-square state.
+     */
+    void markShared() {
+        shared = true;
+    }
+
+    /**
+     * @throws IllegalStateException if this Ground is shared
+     * @see Location#getOwnGround()
+     */
+    private void checkNotShared() {
+        if (shared)
+            throw new IllegalStateException(name + " is shared between squares and can't be modified; use Location.getOwnGround()");
+    }
+
+    /**
+     * Add a capability to this Ground.
+     *
+     * @param capability the Capability to add
+     * @throws IllegalStateException if this Ground is shared
+     */
+    @Override
+    public void addCapability(Enum<?> capability) {
+        checkNotShared();
+        super.addCapability(capability);
+    }
+
+    /**
+     * Remove a capability from this Ground.
+     *
+     * @param capability the Capability to remove
+     * @throws IllegalStateException if this Ground is shared
+     */
+    @Override
+    public void removeCapability(Enum<?> capability) {
+        checkNotShared();
+        super.removeCapability(capability);
+    }
+
     /**
      * Returns an empty Action list.
      *
@@ -54,6 +109,17 @@ public abstract class Ground extends GameEntity implements Printable {
         return true;
     }
 
+    /**
+     * Says when this Ground needs {@link #tick(Location)} called. Override this to return {@link TickPolicy#NEVER}
+     * for terrain that doesn't change, or a narrower policy for terrain that only does something some of the time.
+     * Return the same policy object every time.
+     *
+     * @return {@link TickPolicy#ALWAYS}
+     */
+    public TickPolicy getTickPolicy() {
+        return TickPolicy.ALWAYS;
+    }
+
     /**
      * Ground can also experience the joy of time.
      *
@@ -4,5 +4,21 @@ package edu.monash.fit2099.engine.positions;
  * Interface for factory classes used by GameMap to create new map locations.
  */
 public interface GroundFactory {
+	/**
+	 * Returns the Ground represented by a character. This may be a shared instance.
+	 *
+	 * @param displayChar character that represents the Ground in the UI
+	 * @return a Ground
+	 */
 	Ground newGround(char displayChar);
+
+	/**
+	 * Returns a Ground represented by a character that belongs to the caller alone, so it can be modified.
+	 *
+	 * @param displayChar character that represents the Ground in the UI
+	 * @return a Ground that is not shared
+	 */
+	default Ground newPrivateGround(char displayChar) {
+		return newGround(displayChar);
+	}
 }
@@ -0,0 +1,162 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Stores the Ground on every square of a GameMap.
+ * <p>
+ * Most squares hold a shared, stateless Ground (see {@link Ground#isShared()}), so for those the layer
+ * only keeps a one-byte id per square that indexes a small palette of shared instances. Squares whose
+ * Ground has state of its own (a plant that grows, a teleportation circle with destinations, soil that
+ * has been blessed) keep their private instance in a sparse map instead.
+ */
+public class GroundLayer {
+
+	/**
+	 * Id meaning "look in privateGrounds". Ids 1 and up index the palette.
+	 */
+	private static final int PRIVATE = 0;
+	/**
+	 * Ids are stored as unsigned bytes.
+	 */
+	private static final int MAX_PALETTE_SIZE = 255;
+
+	private final int originX;
+	private final int originY;
+	private final int width;
+	private final int height;
+	private final byte[] ids;
+	private final Ground[] palette = new Ground[MAX_PALETTE_SIZE + 1];
+	private final Map<Ground, Integer> paletteIds = new IdentityHashMap<Ground, Integer>();
+	private final Map<Integer, Ground> privateGrounds = new HashMap<Integer, Ground>();
+
+	/**
+	 * Constructor for a layer covering a whole map. Every square starts out with no Ground.
+	 *
+	 * @param width  width of the map, in characters
+	 * @param height height of the map, in characters
+	 */
+	public GroundLayer(int width, int height) {
+		this(0, 0, width, height);
+	}
+
+	/**
+	 * Constructor for a layer covering a rectangle of a map. Coordinates passed to the layer's methods
+	 * are still map coordinates. Every square starts out with no Ground.
+	 *
+	 * @param originX X coordinate of the top left corner of the rectangle
+	 * @param originY Y coordinate of the top left corner of the rectangle
+	 * @param width   width of the rectangle
+	 * @param height  height of the rectangle
+	 */
+	public GroundLayer(int originX, int originY, int width, int height) {
+		if (width <= 0 || height <= 0)
+			throw new IllegalArgumentException();
+
+		this.originX = originX;
+		this.originY = originY;
+		this.width = width;
+		this.height = height;
+		this.ids = new byte[width * height];
+	}
+
+	/**
+	 * Returns the Ground at the given coordinates.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the Ground at (x, y), or null if none has been set
+	 */
+	public Ground get(int x, int y) {
+		int index = indexOf(x, y);
+		int id = Byte.toUnsignedInt(ids[index]);
+		if (id == PRIVATE)
+			return privateGrounds.get(index);
+		return palette[id];
+	}
+
+	/**
+	 * Sets the Ground at the given coordinates.
+	 * <p>
+	 * Shared Grounds go in the palette. Anything else, or a shared Ground that won't fit because the palette
+	 * is full, is stored against the square.
+	 *
+	 * @param x      X coordinate
+	 * @param y      Y coordinate
+	 * @param ground the Ground to put there
+	 */
+	public void set(int x, int y, Ground ground) {
+		int index = indexOf(x, y);
+		int id = ground != null && ground.isShared() ? paletteIdOf(ground) : PRIVATE;
+
+		ids[index] = (byte) id;
+		if (id == PRIVATE && ground != null)
+			privateGrounds.put(index, ground);
+		else
+			privateGrounds.remove(index);
+	}
+
+	/**
+	 * Does every square in this layer hold the given shared Ground?
+	 *
+	 * @param ground a shared Ground
+	 * @return true if the layer is uniformly that Ground
+	 */
+	public boolean isAll(Ground ground) {
+		Integer id = paletteIds.get(ground);
+		if (id == null || !privateGrounds.isEmpty())
+			return false;
+
+		byte expected = (byte) id.intValue();
+		for (byte b : ids) {
+			if (b != expected)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the number of squares holding a Ground of their own
+	 */
+	public int privateGroundCount() {
+		return privateGrounds.size();
+	}
+
+	/**
+	 * Finds the palette id of a shared Ground, adding it to the palette if necessary.
+	 *
+	 * @param ground a shared Ground
+	 * @return its id, or PRIVATE if the palette is full
+	 */
+	private int paletteIdOf(Ground ground) {
+		Integer id = paletteIds.get(ground);
+		if (id != null)
+			return id;
+
+		int next = paletteIds.size() + 1;
+		if (next > MAX_PALETTE_SIZE)
+			return PRIVATE;
+
+		palette[next] = ground;
+		paletteIds.put(ground, next);
+		return next;
+	}
+
+	/**
+	 * Converts coordinates to an index into the layer.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the row-major index of (x, y) within the rectangle this covers
+	 * @throws IndexOutOfBoundsException if (x, y) is not covered
+	 */
+	private int indexOf(int x, int y) {
+		x -= originX;
+		y -= originY;
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			throw new IndexOutOfBoundsException(String.format("(%d, %d) is not covered", x + originX, y + originY));
+		return y * width + x;
+	}
+}
@@ -0,0 +1,100 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.displays.Display;
+
+/**
+ * A World that runs unattended for a fixed number of turns.
+ * <p>
+ * The map is never drawn, so pair this with a {@link edu.monash.fit2099.engine.displays.NullDisplay}
+ * and a player that does not need a keyboard to run as fast as the simulation allows.
+ * The game stops when the turn limit is reached or the player is gone, whichever comes first.
+ */
+public class HeadlessWorld extends World {
+
+	private final int turnLimit;
+	private int turnsCompleted;
+	private long elapsedNanos;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param display   the Display that game messages will be written to
+	 * @param turnLimit the maximum number of turns to run
+	 * @throws IllegalArgumentException if turnLimit is not positive
+	 */
+	public HeadlessWorld(Display display, int turnLimit) {
+		super(display);
+		if (turnLimit <= 0)
+			throw new IllegalArgumentException("Turn limit must be positive");
+		this.turnLimit = turnLimit;
+	}
+
+	/**
+	 * Run the game, timing how long it takes.
+	 */
+	@Override
+	public void run() {
+		long start = System.nanoTime();
+		try {
+			super.run();
+		} finally {
+			elapsedNanos = System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	protected void processTurn() {
+		super.processTurn();
+		turnsCompleted++;
+	}
+
+	/**
+	 * Nobody is watching, so don't draw anything.
+	 *
+	 * @param playersMap the map containing the player
+	 */
+	@Override
+	protected void drawMap(GameMap playersMap) {
+	}
+
+	/**
+	 * The game keeps running while the player is around and the turn limit hasn't been reached.
+	 *
+	 * @return true if another turn should be played
+	 */
+	@Override
+	protected boolean stillRunning() {
+		return turnsCompleted < turnLimit && super.stillRunning();
+	}
+
+	/**
+	 * @return the number of full turns played so far
+	 */
+	public int getTurnsCompleted() {
+		return turnsCompleted;
+	}
+
+	/**
+	 * @return the wall-clock time spent in {@link #run()}, in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return the number of turns played per second of wall-clock time
+	 */
+	public double getTurnsPerSecond() {
+		return elapsedNanos == 0 ? 0 : turnsCompleted / (elapsedNanos / 1e9);
+	}
+
+	/**
+	 * Summarises the run.
+	 *
+	 * @return e.g. "Simulated 10000 turns in 812.4 ms (12309.2 turns/sec)"
+	 */
+	public String getReport() {
+		return String.format("Simulated %d turns in %.1f ms (%.1f turns/sec)",
+				turnsCompleted, elapsedNanos / 1e6, getTurnsPerSecond());
+	}
+}
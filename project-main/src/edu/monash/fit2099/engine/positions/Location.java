@@ -4,8 +4,11 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.displays.Printable;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.metrics.Metrics;
+import edu.monash.fit2099.engine.metrics.Timer;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 
 /**
@@ -13,14 +16,16 @@ import java.util.*;
  * character representation, terrain type, and other game data.
  */
 public class Location implements Printable {
+    private static final Timer TICK = Metrics.timer("location.tick");
+    private static final Timer GROUND_TICK = Metrics.timer("ground.tick");
+    private static final Timer ITEM_TICK = Metrics.timer("item.tick");
 
     private GameMap map;
     private int x;
     private int y;
 
-    private List<Item> items = new ArrayList<>();
-    private Ground ground;
-    private List<Exit> exits = new ArrayList<>();
+    private List<Item> items; // Created when the first item is dropped here
+    private List<Exit> exits; // Only kept once they've been changed; until then the map lists them when asked
 
     /**
      * Constructor.
@@ -72,6 +77,11 @@ public class Location implements Printable {
      * @return an unmodifiable List of items at this location
      */
     public List<Item> getItems() {
+        Location live = live();
+        if (live != this)
+            return live.getItems();
+        if (items == null)
+            return Collections.emptyList();
         return Collections.unmodifiableList(items);
     }
 
@@ -82,7 +92,16 @@ public class Location implements Printable {
      */
     public void addItem(Item item) {
         Objects.requireNonNull(item);
+        Location live = live();
+        if (live != this) {
+            live.addItem(item);
+            return;
+        }
+        if (items == null)
+            items = new ArrayList<>(2);
         items.add(item);
+        if (items.size() == 1)
+            map.itemsChanged(this, true);
     }
 
     /**
@@ -92,15 +111,38 @@ public class Location implements Printable {
      */
     public void removeItem(Item item) {
         Objects.requireNonNull(item);
-        items.remove(item);
+        Location live = live();
+        if (live != this)
+            live.removeItem(item);
+        else if (items != null && items.remove(item) && items.isEmpty())
+            map.itemsChanged(this, false);
     }
 
     /**
      * Accessor for the ground at this location.
+     * <p>
+     * This may be an instance shared with other squares, which can't be modified.
      *
      * @return the ground at this location
+     * @see #getOwnGround()
      */
     public Ground getGround() {
+        return map.groundAt(x, y);
+    }
+
+    /**
+     * Returns the ground at this location, first replacing it with a private copy if it is shared with other
+     * squares. Use this when you want to change the ground here (e.g. give it a capability) without
+     * changing every other square of the same type.
+     *
+     * @return a ground that belongs to this location alone
+     */
+    public Ground getOwnGround() {
+        Ground ground = getGround();
+        if (ground != null && ground.isShared()) {
+            ground = map.groundFactory.newPrivateGround(ground.getDisplayChar());
+            setGround(ground);
+        }
         return ground;
     }
 
@@ -110,7 +152,8 @@ public class Location implements Printable {
      * @param ground Ground type to set
      */
     public void setGround(Ground ground) {
-        this.ground = ground;
+        Ground oldGround = map.replaceGround(x, y, ground);
+        map.groundChanged(this, oldGround, ground);
     }
 
     /**
@@ -118,10 +161,34 @@ public class Location implements Printable {
      * important to them.
      */
     public void tick() {
-        ground.tick(this);
-        for (Item item : new ArrayList<>(items)) {
-            item.tick(this);
+        tickDue(policy -> true);
+    }
+
+    /**
+     * Ticks whatever here is due to be ticked this turn: the ground, then the items, going by their
+     * {@link TickPolicy TickPolicies}.
+     *
+     * @param isDue says whether a policy is due this turn
+     */
+    void tickDue(Predicate<TickPolicy> isDue) {
+        long start = Metrics.start();
+        map.tilesTicked++;
+        Ground ground = getGround();
+        if (isDue.test(ground.getTickPolicy())) {
+            long groundStart = Metrics.start();
+            ground.tick(this);
+            GROUND_TICK.of(ground.getClass()).stop(groundStart);
         }
+        if (items != null && !items.isEmpty()) {
+            for (Item item : new ArrayList<>(items)) {
+                if (isDue.test(item.getTickPolicy())) {
+                    long itemStart = Metrics.start();
+                    item.tick(this);
+                    ITEM_TICK.of(item.getClass()).stop(itemStart);
+                }
+            }
+        }
+        TICK.stop(start);
     }
 
     /**
@@ -130,7 +197,7 @@ public class Location implements Printable {
      * @return true if and only if there is an Actor at this location.
      */
     public boolean containsAnActor() {
-        return map.isAnActorAt(this);
+        return map.occupancyAt(x, y).isOccupied(x, y);
     }
 
     /**
@@ -139,7 +206,7 @@ public class Location implements Printable {
      * @return the Actor at this location, if there is one
      */
     public Actor getActor() {
-        return map.getActorAt(this);
+        return map.occupancyAt(x, y).getActorAt(x, y);
     }
 
     /**
@@ -179,7 +246,7 @@ public class Location implements Printable {
      * @return true if the Actor can enter this location
      */
     public boolean canActorEnter(Actor actor) {
-        return !map.isAnActorAt(this) && ground.canActorEnter(actor);
+        return map.occupancyAt(x, y).canActorEnter(this, actor);
     }
 
     /**
@@ -194,16 +261,55 @@ public class Location implements Printable {
     public char getDisplayChar() {
         Printable thing;
 
-        if (this.containsAnActor())
-            thing = this.getActor();
-        else if (items.size() > 0)
+        Actor actor = map.occupancyAt(x, y).getActorAt(x, y);
+        if (actor != null)
+            thing = actor;
+        else if (items != null && items.size() > 0)
             thing = items.get(items.size() - 1);
         else
-            thing = ground;
+            thing = getGround();
 
         return thing.getDisplayChar();
     }
 
+    /**
+     * Returns the Location object the map currently holds for these coordinates.
+     * <p>
+     * Maps that unload idle areas (see {@link ChunkedGameMap}) may replace a Location with a new object for the same
+     * square. Anyone still holding the old object is forwarded to the new one for anything stored in the Location
+     * itself; ground and actors are stored by the map, so they are always shared.
+     *
+     * @return the live Location for this square
+     */
+    private Location live() {
+        return map.at(x, y);
+    }
+
+    /**
+     * Does this Location hold anything that would be lost if the map threw it away and made a new one later?
+     *
+     * @return true if there are no items here and the exits haven't been changed
+     */
+    boolean isPristine() {
+        return (items == null || items.isEmpty()) && exits == null;
+    }
+
+    /**
+     * Two Locations are equal if they are the same square of the same map.
+     *
+     * @param other the object to compare with
+     * @return true if other is a Location for the same square
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof Location))
+            return false;
+        Location that = (Location) other;
+        return map == that.map && x == that.x && y == that.y;
+    }
+
     /**
      * Computes a hash for the current Location.
      *
@@ -216,33 +322,53 @@ public class Location implements Printable {
 
     /**
      * Returns an unmodifiable list of exits.
+     * <p>
+     * Unless they have been changed, the exits to neighbouring Locations are listed by the map each time this is
+     * called, and each one is only looked up when it is read.
      *
      * @return an unmodifiable list of exits
      */
     public List<Exit> getExits() {
-        return Collections.unmodifiableList(exits);
+        Location live = live();
+        if (live.exits == null)
+            return Collections.unmodifiableList(map.makeExits(live));
+        return Collections.unmodifiableList(live.exits);
     }
 
     /**
-     * Add an exit to this Location.
+     * Add an exit to this Location, e.g. a portal to another map.
      * <p>
-     * This method is used in GameMap to initialize the Location's exits.
+     * The new exit is listed after the exits to neighbouring Locations.
      *
      * @param exit the exit to add
      */
     public void addExit(Exit exit) {
-        exits.add(exit);
+        modifiableExits().add(exit);
     }
 
     /**
      * Remove an exit from this Location.
      * <p>
-     * This method is used in GameMap to initialize the Location's exits.
+     * This can be used to cut off a neighbouring Location, as well as to remove an exit added with {@link #addExit(Exit)}.
      *
      * @param exit the exit to remove
      */
     public void removeExit(Exit exit) {
-        exits.remove(exit);
+        modifiableExits().remove(exit);
+    }
+
+    /**
+     * Returns this Location's own list of exits, copying the map's if they haven't been changed before.
+     *
+     * @return the modifiable list of exits
+     */
+    private List<Exit> modifiableExits() {
+        Location live = live();
+        if (live != this)
+            return live.modifiableExits();
+        if (exits == null)
+            exits = new ArrayList<Exit>(map.makeExits(this));
+        return exits;
     }
 
     /**
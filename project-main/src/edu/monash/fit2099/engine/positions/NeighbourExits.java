@@ -0,0 +1,58 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The standard Exits from a Location to each of its neighbours, as a read-only view.
+ * <p>
+ * Nothing is stored but which directions stay on the map. Each Exit, and the Location it leads to, is looked up
+ * when it is read, so listing the exits of a square on the edge of a {@link ChunkedGameMap} doesn't load the next
+ * chunk until somebody actually looks through that exit.
+ */
+class NeighbourExits extends AbstractList<Exit> implements RandomAccess {
+
+	private final GameMap map;
+	private final int x;
+	private final int y;
+	private final int onMap; // bit i is set if Direction.all()[i] leads to a square on the map
+	private final int size;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param map the map the exits are on
+	 * @param x   X coordinate of the Location the exits lead from
+	 * @param y   Y coordinate of the Location the exits lead from
+	 */
+	NeighbourExits(GameMap map, int x, int y) {
+		this.map = map;
+		this.x = x;
+		this.y = y;
+		Direction[] directions = Direction.all();
+		int bits = 0;
+		for (int i = 0; i < directions.length; i++) {
+			if (map.isOnMap(x + directions[i].dx(), y + directions[i].dy()))
+				bits |= 1 << i;
+		}
+		this.onMap = bits;
+		this.size = Integer.bitCount(bits);
+	}
+
+	@Override
+	public Exit get(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		int bits = onMap;
+		for (int i = 0; i < index; i++)
+			bits &= bits - 1; // Drop the lowest direction
+		Direction direction = Direction.all()[Integer.numberOfTrailingZeros(bits)];
+		return new Exit(direction.getName(), map.at(x + direction.dx(), y + direction.dy()), direction.getHotKey());
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+}
@@ -0,0 +1,138 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+/**
+ * Records which Actor (if any) stands on each square of a GameMap.
+ * <p>
+ * The grid is a flat array indexed by {@code y * width + x}, so asking "who is here?" about a
+ * neighbouring square is an array load rather than a hash lookup. It is written to by
+ * {@link edu.monash.fit2099.engine.actors.ActorLocationsIterator} whenever an Actor is added,
+ * moved or removed, and read by the GameMap and its Locations.
+ */
+public class OccupancyGrid {
+
+	private final int originX;
+	private final int originY;
+	private final int width;
+	private final int height;
+	private final Actor[] cells;
+	private int occupiedCount;
+
+	/**
+	 * Constructor for a grid covering a whole map.
+	 *
+	 * @param width  width of the map, in characters
+	 * @param height height of the map, in characters
+	 */
+	public OccupancyGrid(int width, int height) {
+		this(0, 0, width, height);
+	}
+
+	/**
+	 * Constructor for a grid covering a rectangle of a map. Coordinates passed to the grid's methods
+	 * are still map coordinates.
+	 *
+	 * @param originX X coordinate of the top left corner of the rectangle
+	 * @param originY Y coordinate of the top left corner of the rectangle
+	 * @param width   width of the rectangle
+	 * @param height  height of the rectangle
+	 */
+	public OccupancyGrid(int originX, int originY, int width, int height) {
+		if (width <= 0 || height <= 0)
+			throw new IllegalArgumentException();
+
+		this.originX = originX;
+		this.originY = originY;
+		this.width = width;
+		this.height = height;
+		this.cells = new Actor[width * height];
+	}
+
+	/**
+	 * Returns the Actor at the given coordinates, if there is one.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the Actor at (x, y), or null if the square is empty
+	 */
+	public Actor getActorAt(int x, int y) {
+		return cells[indexOf(x, y)];
+	}
+
+	/**
+	 * Is there an Actor at the given coordinates?
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return true if and only if an Actor is at (x, y)
+	 */
+	public boolean isOccupied(int x, int y) {
+		return cells[indexOf(x, y)] != null;
+	}
+
+	/**
+	 * Can the given Actor step onto this square?  That is, is it empty and does the
+	 * Ground there let the Actor in?
+	 *
+	 * @param location the Location to check; must be on the map this grid belongs to
+	 * @param actor    the Actor who might be moving
+	 * @return true if the Actor can enter the Location
+	 */
+	public boolean canActorEnter(Location location, Actor actor) {
+		return cells[indexOf(location.x(), location.y())] == null && location.getGround().canActorEnter(actor);
+	}
+
+	/**
+	 * Put an Actor on a square.
+	 *
+	 * @param x     X coordinate
+	 * @param y     Y coordinate
+	 * @param actor the Actor to place
+	 * @throws IllegalArgumentException if there is already an Actor on the square
+	 */
+	public void place(int x, int y, Actor actor) {
+		int index = indexOf(x, y);
+		if (cells[index] != null)
+			throw new IllegalArgumentException("Can't place an actor on top of another actor");
+		cells[index] = actor;
+		occupiedCount++;
+	}
+
+	/**
+	 * Empty a square.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 */
+	public void clear(int x, int y) {
+		int index = indexOf(x, y);
+		if (cells[index] != null) {
+			cells[index] = null;
+			occupiedCount--;
+		}
+	}
+
+	/**
+	 * @return true if no Actor is standing anywhere on this grid
+	 */
+	public boolean isEmpty() {
+		return occupiedCount == 0;
+	}
+
+	/**
+	 * Converts coordinates to an index into the grid.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the row-major index of (x, y) within the rectangle this covers
+	 * @throws IndexOutOfBoundsException if (x, y) is not covered
+	 */
+	private int indexOf(int x, int y) {
+		x -= originX;
+		y -= originY;
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			throw new IndexOutOfBoundsException(String.format("(%d, %d) is not covered", x + originX, y + originY));
+		return y * width + x;
+	}
+}
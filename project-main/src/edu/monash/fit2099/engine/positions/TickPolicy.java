@@ -0,0 +1,78 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Says when a Ground or an Item lying on the ground needs its tick() called.
+ * <p>
+ * A GameMap only visits the squares that have something due to tick, so terrain that never changes
+ * (walls, floors) costs nothing per turn. Policies are compared by identity, so a Ground or Item
+ * type should return the same policy object every time, e.g. from a static field.
+ */
+public final class TickPolicy {
+
+	/**
+	 * Never needs ticking.
+	 */
+	public static final TickPolicy NEVER = new TickPolicy("never", 0, null);
+	/**
+	 * Needs ticking every turn. This is the default, so existing Grounds and Items behave as they always have.
+	 */
+	public static final TickPolicy ALWAYS = new TickPolicy("always", 1, null);
+
+	private final String description;
+	private final int period;
+	private final BooleanSupplier condition;
+
+	private TickPolicy(String description, int period, BooleanSupplier condition) {
+		this.description = description;
+		this.period = period;
+		this.condition = condition;
+	}
+
+	/**
+	 * A policy for things that only need ticking every so many turns.
+	 *
+	 * @param turns how many turns between ticks
+	 * @return a new policy
+	 * @throws IllegalArgumentException if turns is not positive
+	 */
+	public static TickPolicy every(int turns) {
+		if (turns <= 0)
+			throw new IllegalArgumentException("Period must be positive");
+		return turns == 1 ? ALWAYS : new TickPolicy("every " + turns + " turns", turns, null);
+	}
+
+	/**
+	 * A policy for things that only need ticking while a condition holds, e.g. at night. The condition is
+	 * checked once per map per turn.
+	 *
+	 * @param description what the condition is, for debugging
+	 * @param condition   true on turns when ticking is needed
+	 * @return a new policy
+	 */
+	public static TickPolicy when(String description, BooleanSupplier condition) {
+		Objects.requireNonNull(condition);
+		return new TickPolicy(description, 1, condition);
+	}
+
+	/**
+	 * Is a tick due?
+	 *
+	 * @param turn how many times the map has ticked so far
+	 * @return true if things with this policy should be ticked on this turn
+	 */
+	public boolean isDue(long turn) {
+		if (period == 0)
+			return false;
+		if (turn % period != 0)
+			return false;
+		return condition == null || condition.getAsBoolean();
+	}
+
+	@Override
+	public String toString() {
+		return description;
+	}
+}
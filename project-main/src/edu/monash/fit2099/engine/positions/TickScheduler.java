@@ -0,0 +1,135 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Keeps track of which squares of a GameMap have anything that needs ticking.
+ * <p>
+ * Squares are grouped by the {@link TickPolicy} of their Ground, and squares with items on them are kept in a group
+ * of their own. Each turn, only the groups that are due are visited, in row-major order so that the game plays out
+ * the same way it would if every square were ticked. The groups are read live during the sweep, so a square further
+ * along that becomes active part-way through still gets its tick this turn, just as it used to.
+ */
+class TickScheduler {
+
+	private final Map<TickPolicy, BitSet> groundTiles = new IdentityHashMap<TickPolicy, BitSet>();
+	private final BitSet itemTiles = new BitSet();
+	private final List<BitSet> dueTiles = new ArrayList<BitSet>();
+	private final Map<TickPolicy, Boolean> dueThisTurn = new IdentityHashMap<TickPolicy, Boolean>();
+	private final Predicate<TickPolicy> dueCheck = this::isDue;
+	private long turn;
+
+	/**
+	 * Records that the Ground on a square has changed.
+	 *
+	 * @param index     tile index of the square
+	 * @param oldGround the Ground that was there, or null
+	 * @param newGround the Ground that is there now, or null
+	 */
+	void groundChanged(int index, Ground oldGround, Ground newGround) {
+		TickPolicy oldPolicy = oldGround == null ? TickPolicy.NEVER : oldGround.getTickPolicy();
+		TickPolicy newPolicy = newGround == null ? TickPolicy.NEVER : newGround.getTickPolicy();
+		if (oldPolicy == newPolicy)
+			return;
+
+		if (oldPolicy != TickPolicy.NEVER) {
+			BitSet tiles = groundTiles.get(oldPolicy);
+			if (tiles != null)
+				tiles.clear(index);
+		}
+		if (newPolicy != TickPolicy.NEVER)
+			groundTiles.computeIfAbsent(newPolicy, p -> new BitSet()).set(index);
+	}
+
+	/**
+	 * Records whether a square has items on it.
+	 *
+	 * @param index    tile index of the square
+	 * @param hasItems true if there are items on the square
+	 */
+	void itemsChanged(int index, boolean hasItems) {
+		itemTiles.set(index, hasItems);
+	}
+
+	/**
+	 * Ticks the squares that have something due.
+	 *
+	 * @param map the map the squares are on
+	 */
+	void tick(GameMap map) {
+		beginTurn();
+		tickDue(map::atIndex, dueCheck);
+	}
+
+	/**
+	 * Ticks the squares that have something due, going by another scheduler's idea of what is due this turn. This
+	 * lets a map keep a scheduler for each part of itself, indexed from 0 within that part, all on the same turn.
+	 *
+	 * @param locations gives the Location for a tile index, which is only asked for squares that are due
+	 * @param isDue     says whether a policy is due this turn
+	 */
+	void tickDue(IntFunction<Location> locations, Predicate<TickPolicy> isDue) {
+		dueTiles.clear();
+		dueTiles.add(itemTiles);
+		for (Map.Entry<TickPolicy, BitSet> entry : groundTiles.entrySet()) {
+			if (isDue.test(entry.getKey()))
+				dueTiles.add(entry.getValue());
+		}
+
+		for (int index = nextDue(0); index >= 0; index = nextDue(index + 1)) {
+			locations.apply(index).tickDue(isDue);
+		}
+	}
+
+	/**
+	 * Starts a new turn, forgetting which policies were due last turn.
+	 */
+	void beginTurn() {
+		turn++;
+		dueThisTurn.clear();
+	}
+
+	/**
+	 * @return a check for whether a policy is due this turn
+	 */
+	Predicate<TickPolicy> dueCheck() {
+		return dueCheck;
+	}
+
+	/**
+	 * Finds the next square in any of the groups that are due.
+	 *
+	 * @param from the tile index to start looking at
+	 * @return the tile index of the next square to tick, or -1 if there are none
+	 */
+	private int nextDue(int from) {
+		int next = -1;
+		for (BitSet tiles : dueTiles) {
+			int candidate = tiles.nextSetBit(from);
+			if (candidate >= 0 && (next < 0 || candidate < next))
+				next = candidate;
+		}
+		return next;
+	}
+
+	/**
+	 * Is a policy due this turn? Each policy's condition is only checked once per turn.
+	 *
+	 * @param policy the policy to check
+	 * @return true if things with that policy should tick this turn
+	 */
+	private boolean isDue(TickPolicy policy) {
+		Boolean result = dueThisTurn.get(policy);
+		if (result == null) {
+			result = policy.isDue(turn);
+			dueThisTurn.put(policy, result);
+		}
+		return result;
+	}
+}
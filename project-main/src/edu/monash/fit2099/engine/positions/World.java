@@ -2,11 +2,17 @@ package edu.monash.fit2099.engine.positions;
 
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actions.LazyActionList;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.events.EventBus;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.jfr.ActorTurnEvent;
+import edu.monash.fit2099.engine.jfr.TurnEvent;
+import edu.monash.fit2099.engine.metrics.Metrics;
+import edu.monash.fit2099.engine.metrics.Timer;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -20,20 +26,41 @@ import java.util.Objects;
  * player, and the playing grid.
  */
 public class World {
+	private static final Timer TURN = Metrics.timer("world.turn");
+	private static final Timer DRAW = Metrics.timer("world.drawMap");
+	private static final Timer ACTOR_TURN = Metrics.timer("world.actorTurn");
+	private static final Timer PLAY_TURN = Metrics.timer("actor.playTurn");
+	private static final Timer EXECUTE = Metrics.timer("action.execute");
+
 	protected Display display;
 	protected ArrayList<GameMap> gameMaps = new ArrayList<GameMap>();
 	protected ActorLocationsIterator actorLocations = new ActorLocationsIterator();
 	protected Actor player; // We only draw the particular map this actor is on.
 	protected Map<Actor, Action> lastActionMap = new HashMap<Actor, Action>();
+	protected EventBus events = new EventBus();
+	private long turnsStarted;
 
 	/**
 	 * Constructor.
+	 * <p>
+	 * Unless the Display throws its output away, it is subscribed to the descriptions of the World's events.
 	 * 
 	 * @param display the Display that will display this World.
 	 */
 	public World(Display display) {
 		Objects.requireNonNull(display);
 		this.display = display;
+		if (display.showsOutput())
+			events.subscribeText(display::println);
+	}
+
+	/**
+	 * The EventBus shared by every GameMap in this World.
+	 *
+	 * @return the EventBus
+	 */
+	public EventBus events() {
+		return events;
 	}
 
 	/**
@@ -44,6 +71,7 @@ public class World {
 		Objects.requireNonNull(gameMap);
 		gameMaps.add(gameMap);
 		gameMap.actorLocations = actorLocations;
+		gameMap.events = events;
 	}
 
 	/**
@@ -81,25 +109,101 @@ public class World {
 
 		// This loop is basically the whole game
 		while (stillRunning()) {
-			GameMap playersMap = actorLocations.locationOf(player).map();
-			// Tick over all the maps. For the map stuff.
-			for (GameMap gameMap : gameMaps) {
-				gameMap.tick();
-			}
+			processTurn();
+		}
+		display.println(endGameMessage());
+		display.flush();
+		Metrics.dump();
+	}
 
-			playersMap.draw(display);
+	/**
+	 * Plays one full turn of the game: ticks every map, draws the player's map,
+	 * then gives every Actor its turn. Everything printed during the turn is flushed
+	 * to the Display's sink at the end of it.
+	 * <p>
+	 * When {@link Metrics} are on, the turn, drawing the map and each Actor's turn are timed. Each turn and Actor's
+	 * turn is also a Flight Recorder event ({@link TurnEvent}, {@link ActorTurnEvent}).
+	 */
+	protected void processTurn() {
+		long turnStart = Metrics.start();
+		TurnEvent turnEvent = new TurnEvent();
+		turnEvent.begin();
+		turnsStarted++;
+		GameMap playersMap = actorLocations.locationOf(player).map();
+		// Tick over all the maps. For the map stuff.
+		for (GameMap gameMap : gameMaps) {
+			gameMap.tick();
+		}
 
-			// Process all the actors.
-			for (Actor actor : actorLocations) {
-				if (stillRunning())
-					processActorTurn(actor);
-			}
+		long drawStart = Metrics.start();
+		drawMap(playersMap);
+		DRAW.stop(drawStart);
+
+		// Process all the actors.
+		for (Actor actor : actorLocations) {
+			if (stillRunning())
+				processActorTurn(actor);
 		}
-		display.println(endGameMessage());
+		display.flush();
+		TURN.stop(turnStart);
+		if (turnEvent.shouldCommit()) {
+			int actors = 0;
+			for (Actor ignored : actorLocations)
+				actors++;
+			turnEvent.turn = turnsStarted;
+			turnEvent.actors = actors;
+			turnEvent.map = playersMap.toString();
+			turnEvent.commit();
+		}
+		Metrics.turnEnded();
+	}
+
+	/**
+	 * Draws the map the player is on.
+	 * <p>
+	 * Override this to change how (or whether) the map is rendered each turn.
+	 *
+	 * @param playersMap the map containing the player
+	 */
+	protected void drawMap(GameMap playersMap) {
+		playersMap.draw(display);
 	}
 
 	/**
 	 * Gives an Actor its turn.
+	 * <p>
+	 * The Actor is handed a {@link LazyActionList}, so the Actions on offer (see
+	 * {@link #addAllowableActions(Actor, Location, ActionList)}) are only worked out if the Actor looks at them.
+	 *
+	 * @param actor the Actor whose turn it is.
+	 */
+	protected void processActorTurn(Actor actor) {
+		long start = Metrics.start();
+		ActorTurnEvent actorTurnEvent = new ActorTurnEvent();
+		actorTurnEvent.begin();
+		Location here = actorLocations.locationOf(actor);
+		GameMap map = here.map();
+
+		ActionList actions = new LazyActionList(list -> addAllowableActions(actor, here, list));
+
+		Action action = actor.playTurn(actions, lastActionMap.get(actor), map, display);
+		PLAY_TURN.of(actor.getClass()).stop(start);
+		lastActionMap.put(actor, action);
+		
+		long executeStart = Metrics.start();
+		String result = action.execute(actor, map);
+		EXECUTE.of(action.getClass()).stop(executeStart);
+		display.println(result);
+		ACTOR_TURN.stop(start);
+		if (actorTurnEvent.shouldCommit()) {
+			actorTurnEvent.actorClass = actor.getClass();
+			actorTurnEvent.actionClass = action.getClass();
+			actorTurnEvent.commit();
+		}
+	}
+
+	/**
+	 * Works out the Actions an Actor can take.
 	 *
 	 * The Actions an Actor can take include:
 	 * <ul>
@@ -110,13 +214,13 @@ public class World {
 	 * <li>skipping a turn</li>
 	 * </ul>
 	 *
-	 * @param actor the Actor whose turn it is.
+	 * @param actor   the Actor whose turn it is
+	 * @param here    where the Actor is
+	 * @param actions the list to add the Actions to
 	 */
-	protected void processActorTurn(Actor actor) {
-		Location here = actorLocations.locationOf(actor);
+	protected void addAllowableActions(Actor actor, Location here, ActionList actions) {
 		GameMap map = here.map();
 
-		ActionList actions = new ActionList();
 		for (Item item : actor.getItemInventory()) {
 			// for each item that can perform an action to its owner
 			actions.add(item.allowableActions(actor, map));
@@ -150,12 +254,6 @@ public class World {
 			actions.add(item.getPickUpAction(actor));
 		}
 		actions.add(new DoNothingAction());
-
-		Action action = actor.playTurn(actions, lastActionMap.get(actor), map, display);
-		lastActionMap.put(actor, action);
-		
-		String result = action.execute(actor, map);
-		display.println(result);
 	}
 
 	/**
@@ -1,6 +1,8 @@
 package edu.monash.fit2099.engine.weapons;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.events.Attacked;
 import edu.monash.fit2099.engine.positions.GameMap;
 
 import java.util.Random;
@@ -56,14 +58,14 @@ public abstract class IntrinsicWeapon implements Weapon {
      */
     @Override
     public String attack(Actor attacker, Actor target, GameMap map) {
-        Random rand = new Random();
+        Random rand = GameRandom.get();
         if (!(rand.nextInt(100) < this.hitRate)) {
-            return attacker + " misses " + target + ".";
+            return map.events().report(Attacked.missed(attacker, target));
         }
 
         target.hurt(damage);
 
-        return String.format("%s %s %s for %d damage", attacker, verb, target, damage);
+        return map.events().report(Attacked.hit(attacker, target, verb, damage));
     }
 
     @Override
@@ -1,11 +1,22 @@
 package game;
 
+import java.io.UncheckedIOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
+import edu.monash.fit2099.engine.GameRandom;
+import edu.monash.fit2099.engine.displays.AnsiDisplay;
+import edu.monash.fit2099.engine.displays.AsyncOutputSink;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.displays.OutputSink;
+import edu.monash.fit2099.engine.displays.RotatingFileSink;
 import edu.monash.fit2099.engine.positions.FancyGroundFactory;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.HeadlessWorld;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.positions.World;
 import game.actors.Player;
@@ -16,6 +27,7 @@ import game.actors.creatures.SpiritGoat;
 import game.actors.npcs.*;
 import game.behaviours.NPCController;
 import game.behaviours.RandomNPCController;
+import game.behaviours.RandomPlayerPolicy;
 import game.behaviours.StandardNPCController;
 import game.dialogue.DialogueManager;
 import game.dialogue.JsonDialogueParser;
@@ -24,8 +36,11 @@ import game.grounds.plants.Bloodrose;
 import game.grounds.plants.Inheritree;
 import game.items.Talisman;
 import game.items.Seed;
+import game.llm.CachingLLMService;
+import game.llm.CircuitBreakerLLMService;
 import game.llm.GeminiService;
 import game.llm.LLMService;
+import game.llm.OfflineLLMService;
 import game.timemanagement.ServiceLocator;
 import game.timemanagement.TimeTracker;
 
@@ -35,15 +50,191 @@ import game.timemanagement.TimeTracker;
  */
 public class Application {
 
+    /**
+     * Default number of turns for a headless run.
+     */
+    private static final int DEFAULT_HEADLESS_TURNS = 10000;
+
+    /**
+     * How many turns' worth of output can be waiting to be written before the game has to wait for it.
+     */
+    private static final int OUTPUT_BUFFER_TURNS = 256;
+
+    /**
+     * How big a log file can get before it is rotated, and how many old ones are kept.
+     */
+    private static final long LOG_FILE_BYTES = 16L * 1024 * 1024;
+    private static final int LOG_FILES_KEPT = 4;
+
+    /**
+     * How long a reply from the language model is reused for, and how many are kept in memory.
+     */
+    private static final Duration LLM_CACHE_TIME_TO_LIVE = Duration.ofDays(1);
+    private static final int LLM_CACHE_ENTRIES = 256;
+
+    /**
+     * How long the stand-in for Gemini takes to reply with {@code --offline}: about as long as Gemini does.
+     */
+    private static final OfflineLLMService.Latency OFFLINE_LATENCY =
+            OfflineLLMService.Latency.logNormal(Duration.ofMillis(800), 0.5);
+
+    /**
+     * Starts the game.
+     * <p>
+     * With no arguments the game is played interactively. Pass {@code --headless} to run it
+     * unattended, with a randomly acting Farmer and no map drawing or game messages, e.g.
+     * {@code --headless --turns=50000 --seed=42}. A headless run reports turns/sec and
+     * total wall time when it finishes.
+     * <p>
+     * When playing in a terminal, the map is kept at the top of the screen and only the squares that
+     * changed are redrawn. Pass {@code --plain} to print every frame in full instead.
+     * <p>
+     * Output is written by a background thread, a turn at a time. A headless run can also keep its
+     * game messages, e.g. {@code --headless --log=game.log}; the log is rotated when it gets large.
+     * <p>
+     * Replies from the language model are kept in {@code ~/.elden-thing/llm-cache} for a day, so
+     * NPCs that are asked the same thing again answer straight away. Pass {@code --offline} to play
+     * without Gemini: NPCs then get made-up dialogue from {@link OfflineLLMService}. They get the same
+     * when Gemini is down or slow, as a {@link CircuitBreakerLLMService} stops waiting for it.
+     *
+     * @param args command line arguments
+     */
     public static void main(String[] args) {
 
-        World world = new World(new Display());
+        boolean headless = false;
+        int turns = DEFAULT_HEADLESS_TURNS;
+        Long seed = null;
+        boolean plain = false;
+        String logFile = null;
+        boolean offline = false;
+        for (String arg : args) {
+            if (arg.equals("--headless")) {
+                headless = true;
+            } else if (arg.startsWith("--turns=")) {
+                turns = Integer.parseInt(arg.substring("--turns=".length()));
+            } else if (arg.equals("--offline")) {
+                offline = true;
+            } else if (arg.equals("--plain")) {
+                plain = true;
+            } else if (arg.startsWith("--log=")) {
+                logFile = arg.substring("--log=".length());
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        if (seed != null) {
+            GameRandom.setSeed(seed);
+        }
+
+        if (headless) {
+            Display display = logFile == null ? new NullDisplay()
+                    : new Display(new AsyncOutputSink(new RotatingFileSink(Paths.get(logFile), LOG_FILE_BYTES, LOG_FILES_KEPT),
+                            OUTPUT_BUFFER_TURNS, AsyncOutputSink.BackPressure.BLOCK));
+            ServiceLocator.registerDisplay(display);
+            HeadlessWorld world = new HeadlessWorld(display, turns);
+            Player player = new Player("Farmer", '@', 100, 200, new RandomPlayerPolicy());
+            try {
+                setUpWorld(world, player, null);
+                world.run();
+            } finally {
+                display.close();
+            }
+            new Display().println(world.getReport());
+            return;
+        }
+        if (logFile != null) {
+            throw new IllegalArgumentException("--log can only be used with --headless");
+        }
+
+        // Redraw only what changed, unless output isn't going to a terminal that can take escape codes
+        boolean terminal = System.console() != null && !plain;
+        OutputSink sink = new AsyncOutputSink(OutputSink.stdout(), OUTPUT_BUFFER_TURNS, AsyncOutputSink.BackPressure.BLOCK);
+        Display display = terminal ? new AnsiDisplay(sink) : new Display(sink);
+        ServiceLocator.registerDisplay(display);
+        World world = new World(display);
+
+        // Please add your Gemini API Key as an Environment Variable!
+        CachingLLMService gemini = offline ? null : cached(new GeminiService(System.getenv("GEMINI_API_KEY")));
+        LLMService llm = offline ? new OfflineLLMService().withLatency(OFFLINE_LATENCY)
+                : new CircuitBreakerLLMService(gemini, new OfflineLLMService());
+        try {
+            // BEHOLD, ELDEN THING!
+            printSlowly(display, FancyMessage.TITLE);
+
+            DialogueManager dialogueManager = new DialogueManager(llm, new JsonDialogueParser());
+
+            setUpWorld(world, new Player("Farmer", '@', 100, 200), dialogueManager);
+            world.run();
+
+            printSlowly(display, FancyMessage.YOU_DIED);
+        } finally {
+            if (gemini != null) {
+                gemini.close();
+            }
+            display.close();
+        }
+    }
+
+    /**
+     * Caches an LLM's replies in memory and in ~/.elden-thing/llm-cache, or only in memory if that directory can't
+     * be used (e.g. the home directory is missing or read-only).
+     *
+     * @param llm the LLM to cache
+     * @return the caching LLM
+     */
+    private static CachingLLMService cached(LLMService llm) {
+        String home = System.getProperty("user.home");
+        if (home != null) {
+            try {
+                return new CachingLLMService(llm, LLM_CACHE_TIME_TO_LIVE, LLM_CACHE_ENTRIES,
+                        Paths.get(home, ".elden-thing", "llm-cache"));
+            } catch (UncheckedIOException | InvalidPathException exception) {
+                System.err.println("Not caching LLM replies on disk: " + exception.getMessage());
+            }
+        }
+        return new CachingLLMService(llm, LLM_CACHE_TIME_TO_LIVE, LLM_CACHE_ENTRIES);
+    }
+
+    /**
+     * Prints a fancy message one line at a time.
+     *
+     * @param display the Display to print to
+     * @param message the message to print
+     */
+    private static void printSlowly(Display display, String message) {
+        for (String line : message.split("\n")) {
+            display.println(line);
+            display.flush();
+            try {
+                Thread.sleep(200);
+            } catch (Exception exception) {
+                exception.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Builds the maps, places the player and populates the world.
+     *
+     * @param world           the world to set up
+     * @param player          the player
+     * @param dialogueManager generates dialogue for the LLM-powered NPCs, or null to leave them out
+     */
+    private static void setUpWorld(World world, Player player, DialogueManager dialogueManager) {
 
         TimeTracker timeTracker = new TimeTracker();
         ServiceLocator.registerTimeProvider(timeTracker);
+        ServiceLocator.registerEventBus(world.events());
 
-        FancyGroundFactory groundFactory = new FancyGroundFactory(new Blight(),
-                new Wall(), new Floor(), new Soil(), new TeleportationCircle());
+        FancyGroundFactory groundFactory = new FancyGroundFactory()
+                .registerShared(Blight::new)
+                .registerShared(Wall::new)
+                .registerShared(Floor::new)
+                .registerShared(Soil::new)
+                .register(TeleportationCircle::new);
 
         List<String> map = Arrays.asList(
                 "xxxx...x..............................xx",
@@ -87,23 +278,6 @@ public class Application {
         world.addGameMap(gameMap);
         world.addGameMap(limveldMap);
 
-        // BEHOLD, ELDEN THING!
-        for (String line : FancyMessage.TITLE.split("\n")) {
-            new Display().println(line);
-            try {
-                Thread.sleep(200);
-            } catch (Exception exception) {
-                exception.printStackTrace();
-            }
-        }
-
-        // Please add your Gemini API Key as an Environment Variable!
-        LLMService gemini = new GeminiService(System.getenv("GEMINI_API_KEY"));
-        DialogueManager dialogueManager = new DialogueManager(gemini, new JsonDialogueParser());
-
-
-
-        Player player = new Player("Farmer", '@', 100, 200);
         player.hurt(20);
         player.addItemToInventory(new Seed("Bloodrose Seed", new Bloodrose(), 75));
         player.addItemToInventory(new Seed("Inheritree Seed", new Inheritree(), 25));
@@ -147,25 +321,16 @@ public class Application {
         gameMap.at(20, 14).addActor(new Sellen(standardController));
         gameMap.at(20, 6).addActor(new MerchantKale(standardController));
         gameMap.at(21,5).addActor(new Guts(standardController));
-        gameMap.at(38, 13).addActor(new Shabiri(standardController, dialogueManager));
-        gameMap.at(38, 11).addActor(new Explorer(standardController, dialogueManager));
-        gameMap.at(35, 11).addActor(new Narrator(standardController, dialogueManager));
+        if (dialogueManager != null) {
+            gameMap.at(38, 13).addActor(new Shabiri(standardController, dialogueManager));
+            gameMap.at(38, 11).addActor(new Explorer(standardController, dialogueManager));
+            gameMap.at(35, 11).addActor(new Narrator(standardController, dialogueManager));
+        }
 
         limveldMap.at(20,10).addActor(new BedOfChaos(standardController));
 
         gameMap.at(8, 7).addActor(new OmenSheep(standardController));
         gameMap.at(20, 12).addActor(new GoldenBeetle(standardController));
         gameMap.at(10, 14).addActor(new GoldenBeetle((randomNPCController)));
-        world.run();
-
-        for (String line : FancyMessage.YOU_DIED.split("\n")) {
-            new Display().println(line);
-            try {
-                Thread.sleep(200);
-            } catch (Exception exception) {
-                exception.printStackTrace();
-            }
-        }
-
     }
 }
@@ -1,11 +1,13 @@
 package game;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.GroundFactory;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.positions.NumberRange;
 import game.actors.npcs.SuspiciousMerchant;
 import game.behaviours.StandardNPCController;
+import game.jfr.SpawnEvent;
 import game.timemanagement.*;
 
 import java.util.List;
@@ -59,7 +61,7 @@ public class EldenThingGameMap extends GameMap implements TimeAware {
         super(name, groundFactory, lines);
         this.timeTracker = null;
         this.timeProvider = ServiceLocator.getTimeProvider();
-        this.random = new Random();
+        this.random = GameRandom.get();
         this.merchantSpawned = false;
     }
 
@@ -121,7 +123,9 @@ public class EldenThingGameMap extends GameMap implements TimeAware {
                 boolean containsActor = location.containsAnActor();
 
                 if (!containsActor) {
-                    location.addActor(new SuspiciousMerchant(new StandardNPCController()));
+                    SuspiciousMerchant merchant = new SuspiciousMerchant(new StandardNPCController());
+                    location.addActor(merchant);
+                    SpawnEvent.spawned(merchant, location, "night merchant");
                     merchantSpawned = true;
                 }
 
@@ -3,8 +3,8 @@ package game.actions;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.displays.Display;
 import game.actors.creatures.boss.BedOfChaos;
+import game.timemanagement.ServiceLocator;
 
 /**
  * Triggers growth.
@@ -36,8 +36,7 @@ public class GrowAction extends Action {
      */
     @Override
     public String execute(Actor actor, GameMap map) {
-        Display display = new Display();
-        boss.grow(display);
+        boss.grow(ServiceLocator.getDisplay());
         return "";
     }
 
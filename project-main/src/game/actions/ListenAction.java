@@ -1,5 +1,6 @@
 package game.actions;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
@@ -32,7 +33,7 @@ public class ListenAction extends Action {
      */
     public ListenAction(NPC npc) {
         this.npc = npc;
-        this.random = new Random();
+        this.random = GameRandom.get();
     }
 
     /**
@@ -4,6 +4,7 @@ import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import game.events.Teleported;
 
 /**
  * An action that teleports an actor to a specified location on a specified map.
@@ -33,13 +34,14 @@ public class TeleportAction extends Action {
      *
      * @param actor the actor performing the action
      * @param map the current map of the actor
-     * @return a string description of the teleport action result
+     * @return a string description of the teleport action result, if anyone is reading
      */
     @Override
     public String execute(Actor actor, GameMap map) {
+        Location origin = map.locationOf(actor);
         map.removeActor(actor);
         destinationMap.addActor(actor, destinationLocation);
-        return actor + " teleports to " + destinationLocation.x() + "," + destinationLocation.y();
+        return map.events().report(new Teleported(actor, origin, destinationLocation));
     }
 
     /**
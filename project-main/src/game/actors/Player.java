@@ -8,7 +8,8 @@ import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.displays.Menu;
+import game.behaviours.MenuPlayerPolicy;
+import game.behaviours.PlayerPolicy;
 import game.weapons.BareFist;
 
 /**
@@ -16,6 +17,11 @@ import game.weapons.BareFist;
  * @author Adrian Kristanto
  */
 public class Player extends Actor {
+    /**
+     * Decides what the player does each turn.
+     */
+    private final PlayerPolicy policy;
+
     /**
      * Constructor.
      *
@@ -24,7 +30,20 @@ public class Player extends Actor {
      * @param hitPoints   Player's starting number of hitpoints
      */
     public Player(String name, char displayChar, int hitPoints, int stamina) {
+        this(name, displayChar, hitPoints, stamina, new MenuPlayerPolicy());
+    }
+
+    /**
+     * Constructor for a player whose actions are chosen by the given policy instead of the console menu.
+     *
+     * @param name        Name to call the player in the UI
+     * @param displayChar Character to represent the player in the UI
+     * @param hitPoints   Player's starting number of hitpoints
+     * @param policy      the policy that picks the player's action each turn
+     */
+    public Player(String name, char displayChar, int hitPoints, int stamina, PlayerPolicy policy) {
         super(name, displayChar, hitPoints);
+        this.policy = policy;
         this.addCapability(Status.HOSTILE_TO_ENEMY);
         this.setIntrinsicWeapon(new BareFist());
         this.addAttribute(BaseActorAttributes.STAMINA, new BaseActorAttribute(stamina));
@@ -44,9 +63,8 @@ public class Player extends Actor {
         if (lastAction.getNextAction() != null)
             return lastAction.getNextAction();
 
-        // return/print the console menu
-        Menu menu = new Menu(actions);
-        return menu.showMenu(this, display);
+        // return/print the console menu, or whatever the policy picks instead
+        return policy.chooseAction(actions, this, map, display);
     }
 
     @Override
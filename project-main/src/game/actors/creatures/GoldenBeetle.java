@@ -14,6 +14,7 @@ import game.actors.Status;
 import game.behaviours.*;
 import game.conditions.NearStatusCondition;
 import game.effects.AttributeEffect;
+import game.events.ItemSpawned;
 import game.items.edibles.Edible;
 import game.items.edibles.Egg;
 
@@ -69,7 +70,7 @@ public class GoldenBeetle extends Creature implements Reproductive, Edible {
                     new AttributeEffect(BaseActorAttributes.STAMINA, STAMINA));
 
                     location.addItem(egg);
-            System.out.println("Golden Beetle laid an egg at " + location);
+            map.events().publish(new ItemSpawned(egg, location, "Golden Beetle laid an egg"));
             eggLayCounter = 0;
         }
     }
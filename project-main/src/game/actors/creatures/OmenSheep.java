@@ -20,6 +20,7 @@ import game.behaviours.StandardNPCController;
 import game.behaviours.WanderBehaviour;
 import game.conditions.TurnCounterCondition;
 import game.effects.MaxAttributeEffect;
+import game.events.ItemSpawned;
 import game.grounds.plants.Inheritree;
 import game.items.edibles.Egg;
 
@@ -157,7 +158,7 @@ public class OmenSheep extends Creature implements Curable, Reproductive {
             egg.setHatchCondition(new TurnCounterCondition(egg, TURN_THRESHOLD));
 
             location.addItem(egg);
-            System.out.println("Omen Sheep laid an egg at " + location);
+            map.events().publish(new ItemSpawned(egg, location, "Omen Sheep laid an egg"));
 
             eggLayCounter = 0;
         }
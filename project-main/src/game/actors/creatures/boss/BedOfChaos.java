@@ -1,19 +1,26 @@
 package game.actors.creatures.boss;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.displays.Display;
 import game.actors.creatures.Creature;
 import game.behaviours.AttackBehaviour;
 import game.behaviours.GrowBehaviour;
 import game.behaviours.NPCController;
+import game.events.Healed;
+import game.timemanagement.ServiceLocator;
 import game.weapons.BedOfChaosWeapon;
 
-import java.util.ArrayList;
-import java.util.List;
-
 
 /**
  * The BedOfChaos boss. It grows branches or leaves each turn
  * and uses them to heal/increase its attack power.
+ * <p>
+ * Every turn the boss and each of its branches grows one new branch or leaf (50/50 chance). Branches add to the
+ * boss's attack power, and leaves both add to it and heal the boss, once when they grow and then every turn after.
+ * Where in the tree a branch or leaf grows makes no difference to any of that, so rather than keeping the tree,
+ * the boss just counts its branches and leaves. The tree grows by half as much again each turn, so once there are
+ * too many growths to roll one by one, the number of new branches is sampled from the same binomial distribution
+ * instead, and growth stops at {@link #MAX_GROWTH}.
  *
  * @author Arielle Ocampo
  */
@@ -21,7 +28,23 @@ public class BedOfChaos extends Creature {
 
     public static final int MAX_HEALTH = 1000;
 
-    private final List<Growable> growables = new ArrayList<>();
+    /** The most branches, or leaves, the boss can have. */
+    public static final long MAX_GROWTH = 1L << 40;
+
+    /** Attack power added by each branch. */
+    private static final int BRANCH_ATTACK_POWER = 3;
+
+    /** Attack power added by each leaf. */
+    private static final int LEAF_ATTACK_POWER = 1;
+
+    /** Amount of HP healed by each leaf, when it grows and every turn after. */
+    private static final int HEAL_AMOUNT = 5;
+
+    /** Up to this many growths a turn are rolled, and described, one at a time. */
+    private static final int DETAILED_GROWTH_LIMIT = 64;
+
+    private long branches;
+    private long leaves;
 
     /**
      * Creates a BedOfChaos.
@@ -38,46 +61,104 @@ public class BedOfChaos extends Creature {
 
     /**
      * Performs growth for the boss:
-     *  -Grows a new branch or a new leaf (50/50 chance).
-     *  -Calls grow() on each existing growable before this turn.
+     *  -The boss and each branch it had before this turn grows a new branch or a new leaf (50/50 chance).
+     *  -Each new leaf heals the boss, and so does each leaf it had before this turn.
      *
      * @param display display used to print messages
      */
     public void grow(Display display) {
-        List<Growable> existingGrowables = new ArrayList<>(growables);
+        long growths = 1 + branches;
+        long existingLeaves = leaves;
 
         display.println(this + " is growing...");
 
-        if (Math.random() < 0.5) {
-            Branch newBranch = new Branch(this);
-            growables.add(newBranch);
-            display.println("It grows a branch...");
+        if (growths <= DETAILED_GROWTH_LIMIT) {
+            for (int i = 0; i < growths; i++) {
+                if (i > 0) {
+                    display.println("Branch is growing...");
+                }
+                growOne(display);
+            }
         } else {
-            Leaf newLeaf = new Leaf(this);
-            growables.add(newLeaf);
-            display.println("It grows a leaf...");
-            this.heal(5);
-            display.println(this + " is healed.");
+            growMany(growths, display);
         }
 
-        for (Growable growable : existingGrowables) {
-            growable.grow();
+        if (existingLeaves > 0) {
+            this.heal(healingBy(existingLeaves));
         }
     }
 
     /**
      * Returns total attack power for the boss’s weapon,
-     * calculated by base attack + each growable's attack amount.
+     * calculated by adding up the attack power of every branch and leaf.
      *
-     * @return total attack power
+     * @return total attack power, or Integer.MAX_VALUE if it's more than that
      */
     public int getTotalAttackPower() {
-        int total = 0;
-        for (Growable growable : growables) {
-            total += growable.getAttackPower();
+        long total = branches * BRANCH_ATTACK_POWER + leaves * LEAF_ATTACK_POWER;
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return how many branches the boss has grown
+     */
+    public long getBranchCount() {
+        return branches;
+    }
+
+    /**
+     * @return how many leaves the boss has grown
+     */
+    public long getLeafCount() {
+        return leaves;
+    }
+
+    private void growOne(Display display) {
+        if (GameRandom.get().nextBoolean()) {
+            branches++;
+            display.println("It grows a branch...");
+        } else {
+            leaves++;
+            display.println("It grows a leaf...");
+            this.heal(HEAL_AMOUNT);
+            ServiceLocator.getEventBus().publish(new Healed(this, HEAL_AMOUNT));
         }
-        return total;
     }
-}
 
+    private void growMany(long growths, Display display) {
+        long newBranches = sampleBranches(growths);
+        long newLeaves = growths - newBranches;
+        display.println("It and its " + branches + " branches grow " + newBranches + " branches and "
+                + newLeaves + " leaves...");
 
+        branches = Math.min(branches + newBranches, MAX_GROWTH);
+        leaves = Math.min(leaves + newLeaves, MAX_GROWTH);
+        if (newLeaves > 0) {
+            int amount = healingBy(newLeaves);
+            this.heal(amount);
+            ServiceLocator.getEventBus().publish(new Healed(this, amount));
+        }
+    }
+
+    /**
+     * How many of a number of growths are branches, each being a fair coin toss. There are too many to toss one
+     * by one, so this uses the normal approximation to the binomial distribution, which has the same mean and
+     * variance.
+     *
+     * @param growths how many growths there are; more than {@link #DETAILED_GROWTH_LIMIT}
+     * @return how many of them are branches
+     */
+    private static long sampleBranches(long growths) {
+        double mean = growths / 2.0;
+        double standardDeviation = Math.sqrt(growths) / 2.0;
+        long sample = Math.round(mean + standardDeviation * GameRandom.get().nextGaussian());
+        return Math.max(0, Math.min(growths, sample));
+    }
+
+    /**
+     * Healing beyond MAX_HEALTH makes no difference, so it's capped there to keep it in an int.
+     */
+    private static int healingBy(long leafCount) {
+        return (int) Math.min(leafCount * HEAL_AMOUNT, MAX_HEALTH);
+    }
+}
@@ -2,14 +2,15 @@ package game.actors.npcs;
 
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
-import game.ExtendedDisplay;
 import game.dialogue.Dialogue;
 import game.dialogue.DialogueManager;
-import game.dialogue.DialogueParsingException;
+import game.dialogue.PendingDialogue;
 import game.actions.TalkAction;
 import game.actors.DialogueCapable;
 import game.behaviours.NPCController;
+import game.timemanagement.ServiceLocator;
 
 import java.util.List;
 
@@ -17,6 +18,9 @@ import java.util.List;
  * An NPC representing "The Explorer", a wise wanderer in the Elden Ring universe.
  * Responds to player questions about the game world in a lore-accurate and immersive manner
  * using JSON-formatted dialogue generated by an LLM.
+ * <p>
+ * The LLM is asked in the background, so the game carries on while the Explorer thinks. Once the answer is
+ * ready the player can talk to the Explorer again to hear it.
  *
  * @author Mohanad Al-Mansoob
  */
@@ -62,6 +66,11 @@ public class Explorer extends NPC implements DialogueCapable {
      */
     private Dialogue dialogue;
 
+    /**
+     * The answer to the player's question, while it is being generated or waiting to be heard; otherwise null.
+     */
+    private PendingDialogue answer;
+
 
     /**
      * Constructs a new Explorer NPC with the specified controller and dialogue manager.
@@ -79,13 +88,20 @@ public class Explorer extends NPC implements DialogueCapable {
     }
 
     /**
-     * Returns the current dialogue instance representing the NPC's conversation state.
+     * Returns the current dialogue instance representing the NPC's conversation state:
+     * the greeting, a placeholder while an answer is being generated, or an offer to hear the answer.
      *
      * @return the current Dialogue object
      */
     @Override
     public Dialogue getCurrentDialogue() {
-        return this.dialogue;
+        if (answer == null) {
+            return this.dialogue;
+        }
+        if (!answer.isReady()) {
+            return answer.get();
+        }
+        return PendingDialogue.placeholder("What have you learned, Explorer?", answer.get().getResponseFor(0));
 
     }
 
@@ -101,33 +117,43 @@ public class Explorer extends NPC implements DialogueCapable {
                 List.of(List.of("Hey Explorer, can I ask you something?")),
                 List.of(List.of("")) // Placeholder; overwritten after first real question
         );
+        this.answer = null;
     }
 
     /**
-     * Handles the player's dialogue choice by prompting the player to enter a question.
-     * Sends the question appended to the prompt prefix to the DialogueManager to generate a new dialogue.
+     * Handles the player's dialogue choice.
+     * If no question has been asked, prompts the player to enter one and sends it, appended to the prompt prefix,
+     * to the DialogueManager to generate a new dialogue in the background.
+     * Once that is ready, the next choice hears the answer, and the conversation starts over.
      *
      * @param optionIndex the index of the chosen dialogue option (ignored here as input is requested)
-     * @return the lore-rich response generated for the player's question, or an error message if generation fails
+     * @return the lore-rich response generated for the player's question, an error message if generation fails,
+     *         or a remark that the Explorer is still thinking
      */
     @Override
     public String handleDialogueChoice(int optionIndex) {
 
-        ExtendedDisplay reader = new ExtendedDisplay();
-        String input = reader.readLine("Enter Question:");
-
-        String prompt = EXPLORER_PROMPT_PREFIX + input;
-
-        resetDialogue();
+        if (answer != null) {
+            if (!answer.isReady()) {
+                return answer.get().getResponseFor(0);
+            }
+            String response = answer.get().getResponseFor(0);
+            resetDialogue();
+            return response;
+        }
 
-        try {
+        Display display = ServiceLocator.getDisplay();
+        display.print("Enter Question:");
+        String input = display.readLine();
 
-            Dialogue newDialogue = dialogueManager.generateDialogue(prompt);
-            return newDialogue.getResponseFor(0);
+        String prompt = EXPLORER_PROMPT_PREFIX + input;
 
-        } catch (DialogueParsingException e) {
-            return "The Explorer blinks, unsure how to respond.";
-        }
+        answer = dialogueManager.streamDialogue(
+                prompt,
+                PendingDialogue.placeholder("Have you thought about my question?", "The Explorer is still pondering your question."),
+                () -> PendingDialogue.placeholder("…", "The Explorer blinks, unsure how to respond.")
+        );
+        return "The Explorer falls silent, pondering your question.";
 
     }
 
@@ -144,7 +170,7 @@ public class Explorer extends NPC implements DialogueCapable {
     public ActionList allowableActions(Actor actor, String direction, GameMap map) {
         ActionList actions = super.allowableActions(actor, direction, map);
 
-        for (int i = 0; i < dialogue.getCurrentOptions().size(); i++) {
+        for (int i = 0; i < getCurrentDialogue().getCurrentOptions().size(); i++) {
             actions.add(new TalkAction(this, i));
         }
 
@@ -5,7 +5,8 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import game.dialogue.Dialogue;
 import game.dialogue.DialogueManager;
-import game.dialogue.DialogueParsingException;
+import game.dialogue.DialoguePool;
+import game.dialogue.PendingDialogue;
 import game.actions.TalkAction;
 import game.actors.DialogueCapable;
 import game.behaviours.NPCController;
@@ -59,9 +60,14 @@ public class Narrator extends NPC implements DialogueCapable {
     private final DialogueManager dialogueManager;
 
     /**
-     * The current dialogue instance representing this NPC's conversation state.
+     * The current dialogue instance representing this NPC's conversation state, which may still be being generated.
      */
-    private Dialogue dialogue;
+    private PendingDialogue dialogue;
+
+    /**
+     * The next few dialogues, generated ahead of time.
+     */
+    private final DialoguePool pool;
 
     /**
      * Constructs a new Narrator NPC with the specified controller and dialogue manager.
@@ -74,12 +80,19 @@ public class Narrator extends NPC implements DialogueCapable {
         super("The Narrator", 'N', 200, controller);
         this.controller = controller;
         this.dialogueManager = dialogueManager;
+        this.pool = new DialoguePool(
+                dialogueManager,
+                DIALOGUE_PROMPT,
+                PendingDialogue.placeholder("…", "The Narrator is still gathering the threads of a story."),
+                this::fallbackDialogue
+        );
         this.dialogue = fetchNewDialogue();
 
     }
 
     /**
      * Resets the current dialogue by fetching a new dialogue from the LLM.
+     * The LLM is asked in the background; until the first part of the story arrives, the Narrator is busy thinking.
      */
     @Override
     public void resetDialogue() {
@@ -87,48 +100,57 @@ public class Narrator extends NPC implements DialogueCapable {
     }
 
     /**
-     * Fetches a new dialogue from the DialogueManager by sending the dialogue prompt to the LLM.
-     * If parsing fails, returns a fallback placeholder dialogue.
+     * Takes the next dialogue from the pool, which generates them from the dialogue prompt ahead of time.
      *
-     * @return a Dialogue object representing the NPC's dialogue with the player
+     * @return the next dialogue, which may still be being generated
      */
-    private Dialogue fetchNewDialogue() {
-
-        try {
-            return dialogueManager.generateDialogue(DIALOGUE_PROMPT);
-        } catch (DialogueParsingException e) {
-            e.printStackTrace();
-
-            return new Dialogue(
-                    List.of(
-                            List.of("…", "…"),
-                            List.of("…", "…"),
-                            List.of("…", "…")
-                    ),
-                    List.of(
-                            List.of("…", "…"),
-                            List.of("…", "…"),
-                            List.of("…", "…")
-                    )
-            );
-        }
+    private PendingDialogue fetchNewDialogue() {
+
+        return pool.take();
+
+    }
+
+    /**
+     * The dialogue used if the LLM's reply can't be parsed.
+     *
+     * @return a fallback placeholder dialogue
+     */
+    private Dialogue fallbackDialogue() {
+
+        return new Dialogue(
+                List.of(
+                        List.of("…", "…"),
+                        List.of("…", "…"),
+                        List.of("…", "…")
+                ),
+                List.of(
+                        List.of("…", "…"),
+                        List.of("…", "…"),
+                        List.of("…", "…")
+                )
+        );
 
     }
 
     /**
      * Returns the current dialogue instance representing the NPC's conversation state.
+     * If the current one has been played to the end, a new one is started first.
      *
      * @return the current Dialogue
      */
     @Override
     public Dialogue getCurrentDialogue() {
-        return this.dialogue;
+        if (this.dialogue.isFinished()) {
+            resetDialogue(); // Played to the end without being reset, e.g. before the end of the reply arrived
+        }
+        return this.dialogue.get();
     }
 
     /**
      * Handles the player's dialogue choice by the selected option index.
      * If the player chooses to decline, returns the decline response and resets the dialogue.
      * Otherwise, returns the corresponding response and advances the dialogue round.
+     * While the current round is still being generated, the placeholder's response is returned and nothing changes.
      *
      * @param optionIndex the index of the chosen dialogue option
      * @return the response string corresponding to the chosen option
@@ -136,18 +158,23 @@ public class Narrator extends NPC implements DialogueCapable {
     @Override
     public String handleDialogueChoice(int optionIndex) {
 
-        String chosenText = dialogue.getCurrentOptions().get(optionIndex);
+        if (!this.dialogue.isReady()) {
+            return this.dialogue.get().getResponseFor(optionIndex);
+        }
+
+        Dialogue current = this.dialogue.get();
+        String chosenText = current.getCurrentOptions().get(optionIndex);
 
         if (chosenText.equalsIgnoreCase("Decline")) {
-            String declineResponse = dialogue.getResponseFor(optionIndex);
+            String declineResponse = current.getResponseFor(optionIndex);
             resetDialogue();
             return declineResponse;
         }
 
-        String response = dialogue.getResponseFor(optionIndex);
-        dialogue.nextRound();
+        String response = current.getResponseFor(optionIndex);
+        current.nextRound();
 
-        if (dialogue.isFinished()) {
+        if (current.isFinished()) {
             resetDialogue();
         }
 
@@ -171,7 +198,7 @@ public class Narrator extends NPC implements DialogueCapable {
         ActionList actions = super.allowableActions(actor, direction, map);
 
 
-        for (int i = 0; i < dialogue.getCurrentOptions().size(); i++) {
+        for (int i = 0; i < getCurrentDialogue().getCurrentOptions().size(); i++) {
             actions.add(new TalkAction(this, i));
         }
 
@@ -5,7 +5,8 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import game.dialogue.Dialogue;
 import game.dialogue.DialogueManager;
-import game.dialogue.DialogueParsingException;
+import game.dialogue.DialoguePool;
+import game.dialogue.PendingDialogue;
 import game.actions.TalkAction;
 import game.actors.DialogueCapable;
 import game.behaviours.NPCController;
@@ -73,12 +74,18 @@ public class Shabiri extends NPC implements DialogueCapable {
 
     /**
      * The current dialogue state for this NPC, which evolves as the player interacts.
+     * It may still be being generated.
      */
-    private Dialogue dialogue;
+    private PendingDialogue dialogue;
+
+    /**
+     * The next few dialogues, generated ahead of time.
+     */
+    private final DialoguePool pool;
 
 
     /**
-     * Constructs a new instance of Shabiri, generating an initial dialogue using the LLM.
+     * Constructs a new instance of Shabiri, starting to generate an initial dialogue using the LLM.
      *
      * @param controller       the NPC behavior controller
      * @param dialogueManager  the manager responsible for interacting with the LLM
@@ -89,21 +96,31 @@ public class Shabiri extends NPC implements DialogueCapable {
 
         this.controller = controller;
         this.dialogueManager = dialogueManager;
+        this.pool = new DialoguePool(
+                dialogueManager,
+                DIALOGUE_PROMPT,
+                PendingDialogue.placeholder("…", "Shabiri stares past you, listening to something you cannot hear."),
+                this::fallbackDialogue
+        );
         this.dialogue = fetchNewDialogue();
     }
 
     /**
      * Gets the current dialogue object.
+     * If the current one has been played to the end, a new one is started first.
      *
      * @return the current {@link Dialogue}
      */
     @Override
     public Dialogue getCurrentDialogue() {
-        return this.dialogue;
+        if (this.dialogue.isFinished()) {
+            resetDialogue(); // Played to the end without being reset, e.g. before the end of the reply arrived
+        }
+        return this.dialogue.get();
     }
 
     /**
-     * Resets the dialogue by generating a new one via the LLM.
+     * Resets the dialogue by generating a new one via the LLM, in the background.
      */
     @Override
     public void resetDialogue() {
@@ -111,31 +128,37 @@ public class Shabiri extends NPC implements DialogueCapable {
     }
 
     /**
-     * Fetches a new {@link Dialogue} from the {@link DialogueManager}, or provides a fallback
-     * if dialogue generation fails.
+     * Takes the next {@link Dialogue} from the pool, which streams them from the {@link DialogueManager} ahead of
+     * time. If one is taken before a round has arrived, Shabiri only offers a placeholder until it does, and if
+     * dialogue generation fails a fallback is used.
+     *
+     * @return the next {@link Dialogue}, which may still be being generated
+     */
+    private PendingDialogue fetchNewDialogue() {
+
+        return pool.take();
+
+    }
+
+    /**
+     * Provides the dialogue used if the LLM's reply can't be parsed.
      *
      * @return a valid {@link Dialogue} object
      */
-    private Dialogue fetchNewDialogue() {
-
-        try {
-            return dialogueManager.generateDialogue(DIALOGUE_PROMPT);
-        } catch (DialogueParsingException e) {
-            e.printStackTrace();
-
-            return new Dialogue(
-                    List.of(
-                            List.of("Hi"),
-                            List.of("What?"),
-                            List.of("What did you say?")
-                    ),
-                    List.of(
-                            List.of("Seems like not a good day to talk to you!"),
-                            List.of("Ha?"),
-                            List.of("Bla bla bla ba...")
-                    )
-            );
-        }
+    private Dialogue fallbackDialogue() {
+
+        return new Dialogue(
+                List.of(
+                        List.of("Hi"),
+                        List.of("What?"),
+                        List.of("What did you say?")
+                ),
+                List.of(
+                        List.of("Seems like not a good day to talk to you!"),
+                        List.of("Ha?"),
+                        List.of("Bla bla bla ba...")
+                )
+        );
 
     }
 
@@ -143,6 +166,7 @@ public class Shabiri extends NPC implements DialogueCapable {
     /**
      * Handles the player's choice of a dialogue option, returns the NPC response,
      * and progresses to the next round. If all rounds are completed, it resets the dialogue.
+     * While the current round is still being generated, the placeholder's response is returned and nothing changes.
      *
      * @param optionIndex the index of the selected player dialogue option
      * @return the corresponding NPC response
@@ -150,10 +174,15 @@ public class Shabiri extends NPC implements DialogueCapable {
     @Override
     public String handleDialogueChoice(int optionIndex) {
 
-        String response = dialogue.getResponseFor(optionIndex);
-        dialogue.nextRound();
+        if (!dialogue.isReady()) {
+            return dialogue.get().getResponseFor(optionIndex);
+        }
+
+        Dialogue current = dialogue.get();
+        String response = current.getResponseFor(optionIndex);
+        current.nextRound();
 
-        if (dialogue.isFinished()) {
+        if (current.isFinished()) {
             resetDialogue();
         }
 
@@ -174,7 +203,7 @@ public class Shabiri extends NPC implements DialogueCapable {
 
 
 
-        for (int i = 0; i < dialogue.getCurrentOptions().size(); i++) {
+        for (int i = 0; i < getCurrentDialogue().getCurrentOptions().size(); i++) {
             actions.add(new TalkAction(this, i));
         }
 
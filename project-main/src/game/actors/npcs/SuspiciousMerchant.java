@@ -1,5 +1,6 @@
 package game.actors.npcs;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
@@ -63,7 +64,7 @@ public class SuspiciousMerchant extends NPC implements TimeAware, Merchant, Scam
         this.addBehaviour(1, new WanderBehaviour());
 
         this.sellItems = new ArrayList<>();
-        this.random = new Random();
+        this.random = GameRandom.get();
         this.initializeSellItems();
     }
 
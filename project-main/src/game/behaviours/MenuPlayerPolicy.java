@@ -0,0 +1,20 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.Menu;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * A player policy that shows the console menu and lets the human pick an action.
+ */
+public class MenuPlayerPolicy implements PlayerPolicy {
+
+    @Override
+    public Action chooseAction(ActionList actions, Actor player, GameMap map, Display display) {
+        Menu menu = new Menu(actions);
+        return menu.showMenu(player, display);
+    }
+}
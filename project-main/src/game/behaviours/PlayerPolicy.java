@@ -0,0 +1,18 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Interface for strategies that decide what the player does on its turn.
+ * The default strategy asks a human through the console menu, but a scripted
+ * or automated strategy can stand in when nobody is at the keyboard.
+ */
+public interface PlayerPolicy {
+
+    Action chooseAction(ActionList actions, Actor player, GameMap map, Display display);
+
+}
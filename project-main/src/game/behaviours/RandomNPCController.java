@@ -1,10 +1,13 @@
 package game.behaviours;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.DoNothingAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.metrics.Metrics;
+import edu.monash.fit2099.engine.metrics.Timer;
 import edu.monash.fit2099.engine.positions.GameMap;
 
 import java.util.ArrayList;
@@ -23,8 +26,11 @@ import java.util.Random;
  */
 public class RandomNPCController implements NPCController{
 
+    private static final Timer PLAY_TURN = Metrics.timer("npc.playturn");
+    private static final Timer GET_ACTION = Metrics.timer("behaviour.getAction");
+
     /** Random number generator for selecting behaviours */
-    private final Random rand = new Random();
+    private final Random rand = GameRandom.get();
 
     /**
      * Selects and performs a random behaviour from the given set of behaviours.
@@ -43,10 +49,14 @@ public class RandomNPCController implements NPCController{
             return new DoNothingAction();
         }
 
+        long start = Metrics.start();
         List<Behaviour> behaviourList = new ArrayList<>(behaviours.values());
         Behaviour chosenBehaviour = behaviourList.get(rand.nextInt(behaviourList.size()));
 
+        long actionStart = Metrics.start();
         Action action = chosenBehaviour.getAction(actor, map);
+        GET_ACTION.of(chosenBehaviour.getClass()).stop(actionStart);
+        PLAY_TURN.of(getClass()).stop(start);
         return action != null ? action : new DoNothingAction();
 
     }
@@ -0,0 +1,39 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.GameRandom;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+import java.util.Random;
+
+/**
+ * A player policy that picks one of the available actions at random.
+ * Used to drive the player in unattended runs, where there is no one to read the menu.
+ * Draws from the shared {@link GameRandom}, so a seeded run always makes the same choices.
+ */
+public class RandomPlayerPolicy implements PlayerPolicy {
+
+    /** Random number generator for selecting actions */
+    private final Random random = GameRandom.get();
+
+    /**
+     * Picks a random action from the list, or does nothing if the list is empty.
+     *
+     * @param actions the actions available to the player this turn
+     * @param player the player
+     * @param map the map the player is on
+     * @param display the display used for output
+     * @return a randomly chosen Action
+     */
+    @Override
+    public Action chooseAction(ActionList actions, Actor player, GameMap map, Display display) {
+        if (actions.size() == 0) {
+            return new DoNothingAction();
+        }
+        return actions.get(random.nextInt(actions.size()));
+    }
+}
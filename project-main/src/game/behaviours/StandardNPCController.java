@@ -5,6 +5,8 @@ import edu.monash.fit2099.engine.actions.DoNothingAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.metrics.Metrics;
+import edu.monash.fit2099.engine.metrics.Timer;
 import edu.monash.fit2099.engine.positions.GameMap;
 
 import java.util.Map;
@@ -22,8 +24,18 @@ import java.util.TreeMap;
  */
 public class StandardNPCController implements NPCController {
 
+    private static final Timer PLAY_TURN = Metrics.timer("npc.playturn");
+    private static final Timer GET_ACTION = Metrics.timer("behaviour.getAction");
+
     @Override
     public Action playturn(Map<Integer, Behaviour> behaviours, Actor actor, GameMap map, Display display) {
+        long start = Metrics.start();
+        Action action = chooseAction(behaviours, actor, map);
+        PLAY_TURN.of(getClass()).stop(start);
+        return action;
+    }
+
+    private Action chooseAction(Map<Integer, Behaviour> behaviours, Actor actor, GameMap map) {
 
         if (map.locationOf(actor) == null) {
             return new DoNothingAction();
@@ -31,7 +43,9 @@ public class StandardNPCController implements NPCController {
 
         for (Behaviour behaviour : new TreeMap<>(behaviours).values()) {
 
+            long start = Metrics.start();
             Action action = behaviour.getAction(actor, map);
+            GET_ACTION.of(behaviour.getClass()).stop(start);
 
             if (action != null){
                 return action;
@@ -1,5 +1,6 @@
 package game.behaviours;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
@@ -31,7 +32,7 @@ public class WanderBehaviour implements Behaviour {
      * Initializes the random number generator.
      */
     public WanderBehaviour() {
-        random = new Random();
+        random = GameRandom.get();
     }
 
     /**
@@ -67,6 +67,15 @@ public class Dialogue {
         return "Shhh... we will talk later";
     }
 
+    /**
+     * Returns the index of the current round, starting from 0.
+     *
+     * @return the current round index
+     */
+    protected int getRoundIndex() {
+        return roundIndex;
+    }
+
     /**
      * Advances the dialogue to the next round.
      */
@@ -1,6 +1,18 @@
 package game.dialogue;
 
+import edu.monash.fit2099.engine.metrics.Metrics;
+import edu.monash.fit2099.engine.metrics.Timer;
 import game.llm.LLMService;
+import game.llm.LLMServiceException;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Manages the generation and parsing of dialogues using an {@link LLMService}.
@@ -8,11 +20,27 @@ import game.llm.LLMService;
  * This class sends prompts to a language model and parses the returned JSON
  * into a {@link Dialogue} object using the {@link JsonDialogueParser}.
  * </p>
+ * <p>
+ * A request to the language model can take seconds, so NPCs should use {@link #generateDialogueAsync(String)},
+ * which does the work on another thread and doesn't hold up the game. By default that is a virtual thread when
+ * the Java runtime has them (Java 21 and later), and otherwise a daemon thread from a shared pool.
+ * {@link #streamDialogue} goes further, and lets the player start on the first round as soon as it arrives.
+ * </p>
  *
  * @author Mohanad Al-Mansoob
  */
 public class DialogueManager {
 
+    /**
+     * Times each request to the language model, by class of service.
+     */
+    private static final Timer GENERATE_TEXT = Metrics.timer("llm.generateText");
+
+    /**
+     * Times each streamed request to the language model, from sending it to having all of the reply.
+     */
+    private static final Timer STREAM_TEXT = Metrics.timer("llm.streamText");
+
     /**
      * The language model service used to generate text.
      */
@@ -24,14 +52,35 @@ public class DialogueManager {
     private final DialogueParser parser;
 
     /**
-     * Constructs a new {@code DialogueManager} with the specified LLM service.
+     * Where asynchronous requests are run.
+     */
+    private final Executor executor;
+
+    /**
+     * Constructs a new {@code DialogueManager} with the specified LLM service, running asynchronous requests
+     * on the shared default executor.
      *
      * @param llmService the LLM service used to generate dialogue content
+     * @param parser the parser used to turn the LLM's replies into dialogues
      */
     public DialogueManager(LLMService llmService, DialogueParser parser) {
 
+        this(llmService, parser, DefaultExecutor.INSTANCE);
+
+    }
+
+    /**
+     * Constructs a new {@code DialogueManager} with the specified LLM service and executor.
+     *
+     * @param llmService the LLM service used to generate dialogue content
+     * @param parser the parser used to turn the LLM's replies into dialogues
+     * @param executor runs the asynchronous requests
+     */
+    public DialogueManager(LLMService llmService, DialogueParser parser, Executor executor) {
+
         this.llmService = llmService;
         this.parser = parser;
+        this.executor = executor;
 
     }
 
@@ -43,21 +92,113 @@ public class DialogueManager {
      *
      * @param npcPrompt the prompt describing the dialogue scenario or NPC behavior
      * @return the generated {@link Dialogue}
-     * @throws DialogueParsingException if the JSON response cannot be parsed correctly
+     * @throws DialogueParsingException if the LLM doesn't reply, or the JSON response cannot be parsed correctly
      */
     public Dialogue generateDialogue(String npcPrompt) throws DialogueParsingException {
         // 1. Prepend only‐JSON instruction:
-        String fullPrompt = """
+        String fullPrompt = wrapPrompt(npcPrompt);
+
+        // 2. Send that wrapped prompt to the LLM
+        long start = Metrics.start();
+        String rawJson;
+        try {
+            rawJson = llmService.generateText(fullPrompt);
+        } catch (LLMServiceException e) {
+            throw new DialogueParsingException("No reply from the LLM", e);
+        } finally {
+            GENERATE_TEXT.of(llmService.getClass()).stop(start);
+        }
+
+        // 3. Parse whatever came back (expecting JSON) into a Dialogue
+        return parser.parse(rawJson);
+    }
+
+    /**
+     * Starts generating a {@link Dialogue} on another thread, and returns straight away.
+     * <p>
+     * Several requests started one after the other run at the same time.
+     * </p>
+     *
+     * @param npcPrompt the prompt describing the dialogue scenario or NPC behavior
+     * @return a future that completes with the generated {@link Dialogue}, or exceptionally with a
+     *         {@link DialogueParsingException} if the response cannot be parsed
+     */
+    public CompletableFuture<Dialogue> generateDialogueAsync(String npcPrompt) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return generateDialogue(npcPrompt);
+            } catch (DialogueParsingException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Starts streaming a {@link Dialogue} from the LLM on another thread, and returns straight away.
+     * <p>
+     * The reply is parsed as it arrives by a {@link JsonDialogueStreamParser}, whatever parser this manager was
+     * given, and each round can be played as soon as it has arrived.
+     * </p>
+     *
+     * @param npcPrompt the prompt describing the dialogue scenario or NPC behavior
+     * @param placeholder shown until the round being played has arrived
+     * @param fallback makes the dialogue to use if the LLM doesn't reply, or the reply cannot be parsed
+     * @return the dialogue being streamed
+     */
+    public PendingDialogue streamDialogue(String npcPrompt, Dialogue placeholder, Supplier<Dialogue> fallback) {
+        String fullPrompt = wrapPrompt(npcPrompt);
+        JsonDialogueStreamParser streamParser = new JsonDialogueStreamParser();
+        CompletableFuture<Dialogue> future = CompletableFuture.supplyAsync(() -> {
+            long start = Metrics.start();
+            try {
+                llmService.streamText(fullPrompt, streamParser);
+                return streamParser.finish();
+            } catch (LLMServiceException e) {
+                throw new CompletionException(new DialogueParsingException("No reply from the LLM", e));
+            } catch (DialogueParsingException e) {
+                throw new CompletionException(e);
+            } finally {
+                STREAM_TEXT.of(llmService.getClass()).stop(start);
+            }
+        }, executor);
+        return new PendingDialogue(future, streamParser.getDialogue(), placeholder, fallback);
+    }
+
+    /**
+     * Prepends the instruction to reply only in JSON.
+     *
+     * @param npcPrompt the prompt describing the dialogue scenario or NPC behavior
+     * @return the prompt to send to the LLM
+     */
+    private static String wrapPrompt(String npcPrompt) {
+        return """
             You must reply ONLY in valid JSON. Do not include any additional text.
             
             %s
             """.formatted(npcPrompt);
+    }
 
-        // 2. Send that wrapped prompt to the LLM
-        String rawJson = llmService.generateText(fullPrompt);
+    /**
+     * The executor shared by every DialogueManager that isn't given one, created when it's first needed.
+     */
+    private static final class DefaultExecutor {
 
-        // 3. Parse whatever came back (expecting JSON) into a Dialogue
-        return parser.parse(rawJson);
+        private static final ExecutorService INSTANCE = create();
+
+        private static ExecutorService create() {
+            try {
+                Method virtualThreads = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) virtualThreads.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // No virtual threads before Java 21. Daemon threads, so that they don't keep the game running.
+                AtomicInteger count = new AtomicInteger();
+                return Executors.newCachedThreadPool(task -> {
+                    Thread thread = new Thread(task, "dialogue-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
     }
 
 }
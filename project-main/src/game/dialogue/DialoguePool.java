@@ -0,0 +1,280 @@
+package game.dialogue;
+
+import edu.monash.fit2099.engine.metrics.Counter;
+import edu.monash.fit2099.engine.metrics.Metrics;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps an NPC's next few dialogues generated ahead of time, so that starting a new conversation only has to take
+ * the next one, rather than wait for the language model.
+ * <p>
+ * Each pool tries to keep {@code depth} dialogues ready or on their way. Whenever one is taken, a background worker
+ * asks for another, starting at most one request per refill interval for each pool, and no more requests at once
+ * across every pool than the global limit. If a request fails, the pool waits twice as long before the next one,
+ * up to a minute, so an unreachable language model isn't asked over and over. Taking from an empty pool is a miss:
+ * the dialogue is asked for straight away, whatever the limit, since the player is waiting for it.
+ * </p>
+ * <p>
+ * Each request adds a numbered variation to the prompt, so that a {@link game.llm.CachingLLMService} keeps a
+ * different dialogue for each one rather than handing back the same one every time. The numbers are salted with a
+ * value picked afresh each time the game starts, so a cache kept on disk doesn't replay the last session's
+ * dialogues in the same order.
+ * </p>
+ * <p>
+ * The defaults can be changed with {@code -Ddialogue.pool.depth=N} (2), {@code -Ddialogue.pool.refillMillis=N}
+ * (500) and {@code -Ddialogue.pool.maxConcurrent=N} (2). Only the game thread should take from a pool.
+ * </p>
+ *
+ * <p><b>Example usage:</b>
+ * <pre>{@code
+ * DialoguePool pool = new DialoguePool(dialogueManager, DIALOGUE_PROMPT, placeholder, this::fallbackDialogue);
+ * PendingDialogue dialogue = pool.take();
+ * }</pre>
+ * </p>
+ */
+public class DialoguePool {
+
+    private static final int DEFAULT_DEPTH = Integer.getInteger("dialogue.pool.depth", 2);
+    private static final Duration DEFAULT_REFILL_INTERVAL =
+            Duration.ofMillis(Long.getLong("dialogue.pool.refillMillis", 500L));
+    private static final Duration MAX_REFILL_INTERVAL = Duration.ofMinutes(1);
+
+    /**
+     * How many background requests may run at once, across every pool.
+     */
+    private static final Semaphore PERMITS = new Semaphore(Math.max(1, Integer.getInteger("dialogue.pool.maxConcurrent", 2)));
+
+    /**
+     * Pools that want to refill, but are waiting for a permit.
+     */
+    private static final Queue<DialoguePool> WAITING = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Salts the variation numbers, so that they differ from one run of the game to the next.
+     */
+    private static final String SESSION = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+
+    private static final Counter HITS = Metrics.counter("dialogue.pool.hits");
+    private static final Counter MISSES = Metrics.counter("dialogue.pool.misses");
+    private static final Counter FAILURES = Metrics.counter("dialogue.pool.failures");
+
+    private final DialogueManager dialogueManager;
+    private final String prompt;
+    private final Dialogue placeholder;
+    private final Supplier<Dialogue> fallback;
+    private final int depth;
+    private final long refillNanos;
+
+    /**
+     * The dialogues waiting to be taken, oldest first; some may still be being generated.
+     */
+    private final Deque<PendingDialogue> pool = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Whether a refill is due to run: queued, scheduled, or waiting for a permit.
+     */
+    private final AtomicBoolean refillDue = new AtomicBoolean();
+
+    private final AtomicInteger failuresInARow = new AtomicInteger();
+    private final LongAdder taken = new LongAdder();
+    private final LongAdder missed = new LongAdder();
+    private volatile long nextRequestNanos = System.nanoTime();
+    private int variation;
+
+    /**
+     * Constructs a {@code DialoguePool} of the default depth and refill interval, and starts filling it.
+     *
+     * @param dialogueManager generates the dialogues
+     * @param prompt the prompt describing the dialogue scenario or NPC behavior
+     * @param placeholder shown until a dialogue that is taken before it is ready has arrived
+     * @param fallback makes the dialogue to use if generating one fails
+     */
+    public DialoguePool(DialogueManager dialogueManager, String prompt, Dialogue placeholder,
+                        Supplier<Dialogue> fallback) {
+        this(dialogueManager, prompt, placeholder, fallback, DEFAULT_DEPTH, DEFAULT_REFILL_INTERVAL);
+    }
+
+    /**
+     * Constructs a {@code DialoguePool}, and starts filling it.
+     *
+     * @param dialogueManager generates the dialogues
+     * @param prompt the prompt describing the dialogue scenario or NPC behavior
+     * @param placeholder shown until a dialogue that is taken before it is ready has arrived
+     * @param fallback makes the dialogue to use if generating one fails
+     * @param depth how many dialogues to keep ready or on their way
+     * @param refillInterval the least time between starting one request and the next
+     */
+    public DialoguePool(DialogueManager dialogueManager, String prompt, Dialogue placeholder,
+                        Supplier<Dialogue> fallback, int depth, Duration refillInterval) {
+        if (depth < 0 || refillInterval.isNegative())
+            throw new IllegalArgumentException("Pool depth and refill interval can't be negative");
+        this.dialogueManager = dialogueManager;
+        this.prompt = prompt;
+        this.placeholder = placeholder;
+        this.fallback = fallback;
+        this.depth = depth;
+        this.refillNanos = refillInterval.toNanos();
+        requestRefill();
+    }
+
+    /**
+     * Takes the next dialogue, and has the pool refilled in the background.
+     *
+     * @return the next dialogue, which is ready unless this was a miss
+     */
+    public PendingDialogue take() {
+        taken.increment();
+        PendingDialogue next = pool.poll();
+        if (next == null || !next.isReady()) {
+            missed.increment();
+            MISSES.increment();
+        } else {
+            HITS.increment();
+        }
+        if (next == null) {
+            next = generate();
+        }
+        requestRefill();
+        return next;
+    }
+
+    /**
+     * Returns how many dialogues in the pool have finished generating.
+     *
+     * @return the number of ready dialogues
+     */
+    public int getReadyCount() {
+        int count = 0;
+        for (PendingDialogue pending : pool) {
+            if (pending.getFuture().isDone() && !pending.getFuture().isCompletedExceptionally()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns how many dialogues are in the pool, whether or not they have finished generating.
+     *
+     * @return the number of dialogues in the pool
+     */
+    public int getSize() {
+        return pool.size();
+    }
+
+    /**
+     * Returns how many dialogues have been taken.
+     *
+     * @return the number of calls to {@link #take()}
+     */
+    public long getTakenCount() {
+        return taken.sum();
+    }
+
+    /**
+     * Returns how many dialogues were taken before they were ready, or from an empty pool.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return missed.sum();
+    }
+
+    /**
+     * Starts generating a dialogue, with the next variation of the prompt.
+     */
+    private PendingDialogue generate() {
+        int number;
+        synchronized (this) {
+            number = ++variation;
+        }
+        String variationNote = "\n(Variation " + SESSION + "-" + number + ": make it different from the others.)";
+        return dialogueManager.streamDialogue(prompt + variationNote, placeholder, fallback);
+    }
+
+    /**
+     * Has the worker refill the pool, unless it is already going to.
+     */
+    private void requestRefill() {
+        if (refillDue.compareAndSet(false, true)) {
+            Worker.INSTANCE.execute(this::refill);
+        }
+    }
+
+    /**
+     * Starts requests until the pool is full, or it has to wait for the refill interval or a permit. Runs on the
+     * worker thread.
+     */
+    private void refill() {
+        refillDue.set(false);
+        while (pool.size() < depth) {
+            long wait = nextRequestNanos - System.nanoTime();
+            if (wait > 0) {
+                if (refillDue.compareAndSet(false, true)) {
+                    Worker.INSTANCE.schedule(this::refill, wait, TimeUnit.NANOSECONDS);
+                }
+                return;
+            }
+            if (!PERMITS.tryAcquire()) {
+                if (refillDue.compareAndSet(false, true)) {
+                    WAITING.add(this);
+                    if (PERMITS.availablePermits() > 0) {
+                        wakeWaiting(); // A permit came back before this pool started waiting for one
+                    }
+                }
+                return;
+            }
+
+            PendingDialogue pending = generate();
+            pool.add(pending);
+            long interval = refillNanos << Math.min(failuresInARow.get(), 16);
+            nextRequestNanos = System.nanoTime() + Math.min(interval, MAX_REFILL_INTERVAL.toNanos());
+            pending.getFuture().whenComplete((dialogue, error) -> {
+                PERMITS.release();
+                if (error == null) {
+                    failuresInARow.set(0);
+                } else {
+                    failuresInARow.incrementAndGet();
+                    FAILURES.increment();
+                    pool.remove(pending);
+                    requestRefill();
+                }
+                wakeWaiting();
+            });
+        }
+    }
+
+    private static void wakeWaiting() {
+        DialoguePool waiting = WAITING.poll();
+        if (waiting != null) {
+            Worker.INSTANCE.execute(waiting::refill);
+        }
+    }
+
+    /**
+     * The thread that refills every pool, created when it's first needed. A daemon, so that it doesn't keep the
+     * game running.
+     */
+    private static final class Worker {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "dialogue-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
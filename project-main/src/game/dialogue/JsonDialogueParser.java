@@ -1,5 +1,6 @@
 package game.dialogue;
 
+import game.jfr.DialogueParseEvent;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -31,6 +32,8 @@ public class JsonDialogueParser implements DialogueParser {
      */
     @Override
     public Dialogue parse(String jsonString) throws DialogueParsingException {
+        DialogueParseEvent event = new DialogueParseEvent();
+        event.begin();
         try {
             JSONObject root = new JSONObject(jsonString);
 
@@ -39,10 +42,17 @@ public class JsonDialogueParser implements DialogueParser {
             List<List<String>> options = parseNestedStringArray(root.getJSONArray("options"));
             List<List<String>> responses = parseNestedStringArray(root.getJSONArray("responses"));
 
+            event.rounds = options.size();
+            event.succeeded = true;
             return new Dialogue(options, responses);
 
         } catch (JSONException e) {
             throw new DialogueParsingException("Failed to parse Dialogue JSON", e);
+        } finally {
+            if (event.shouldCommit()) {
+                event.inputLength = jsonString == null ? 0 : jsonString.length();
+                event.commit();
+            }
         }
     }
 
@@ -0,0 +1,232 @@
+package game.dialogue;
+
+import game.jfr.DialogueParseEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Parses the same JSON as {@link JsonDialogueParser}, but a piece at a time as it arrives from the language model,
+ * adding each round to a {@link StreamingDialogue} as soon as the array holding it is closed.
+ * <p>
+ * Only as much of JSON is understood as dialogues need: objects, arrays and strings. Anything before the first
+ * {@code '{'} (such as the start of a Markdown code fence) or after the matching {@code '}'} is ignored, as are
+ * numbers, {@code true}, {@code false}, {@code null} and {@code //} comments. Rounds are taken from the
+ * {@code "options"} and {@code "responses"} arrays of the outermost object; everything else in it is skipped.
+ * </p>
+ *
+ * <p><b>Example usage:</b>
+ * <pre>{@code
+ * JsonDialogueStreamParser parser = new JsonDialogueStreamParser();
+ * llmService.streamText(prompt, parser);
+ * Dialogue dialogue = parser.finish();
+ * }</pre>
+ * </p>
+ */
+public class JsonDialogueStreamParser implements Consumer<String> {
+
+    /**
+     * The dialogue being parsed.
+     */
+    private final StreamingDialogue dialogue = new StreamingDialogue();
+
+    /**
+     * The objects ({@code '{'}) and arrays ({@code '['}) that are open, innermost first.
+     */
+    private final Deque<Character> open = new ArrayDeque<>();
+
+    /**
+     * The string being read.
+     */
+    private final StringBuilder string = new StringBuilder();
+
+    /**
+     * The hex digits of a {@code \}{@code u} escape being read.
+     */
+    private final StringBuilder unicode = new StringBuilder();
+
+    /**
+     * The last key read in the outermost object.
+     */
+    private String key;
+
+    /**
+     * Which of the outermost object's arrays is being read: {@code "options"}, {@code "responses"}, or null.
+     */
+    private String section;
+
+    /**
+     * The round being read, if inside one.
+     */
+    private List<String> round;
+
+    private boolean inString;
+    private boolean escaped;
+    private boolean inUnicode;
+    private boolean inComment;
+    private boolean expectingKey;
+    private boolean sawOptions;
+    private boolean sawResponses;
+    private boolean done;
+    private int length;
+
+    /**
+     * Returns the dialogue, which has every round that has arrived so far.
+     *
+     * @return the dialogue being parsed
+     */
+    public StreamingDialogue getDialogue() {
+        return dialogue;
+    }
+
+    /**
+     * Parses the next piece of the reply.
+     *
+     * @param text the next piece
+     */
+    @Override
+    public void accept(String text) {
+        length += text.length();
+        for (int i = 0; i < text.length() && !done; i++) {
+            next(text.charAt(i));
+        }
+    }
+
+    /**
+     * Checks that the whole dialogue has arrived, and marks it complete.
+     *
+     * @return the dialogue, the same one as {@link #getDialogue()}
+     * @throws DialogueParsingException if the reply ended before the outermost object did, or didn't have both
+     *                                  options and responses
+     */
+    public Dialogue finish() throws DialogueParsingException {
+        DialogueParseEvent event = new DialogueParseEvent();
+        try {
+            if (!done || !sawOptions || !sawResponses) {
+                throw new DialogueParsingException("Failed to parse Dialogue JSON: "
+                        + (done ? "it has no options or no responses" : "the reply ended part-way through it"), null);
+            }
+            dialogue.complete();
+            event.rounds = dialogue.getRoundCount();
+            event.succeeded = true;
+            return dialogue;
+        } finally {
+            if (event.shouldCommit()) {
+                event.inputLength = length;
+                event.commit();
+            }
+        }
+    }
+
+    private void next(char c) {
+        if (inString) {
+            nextInString(c);
+        } else if (inComment) {
+            inComment = c != '\n';
+        } else if (open.isEmpty()) {
+            if (c == '{') {
+                open.push(c);
+                expectingKey = true;
+            }
+        } else {
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    string.setLength(0);
+                }
+                case '/' -> inComment = true;
+                case '{' -> {
+                    open.push(c);
+                    expectingKey = true;
+                }
+                case '[' -> openArray();
+                case ']' -> closeArray();
+                case '}' -> {
+                    open.pop();
+                    done = open.isEmpty();
+                }
+                case ':' -> expectingKey = false;
+                case ',' -> expectingKey = open.peek() == '{';
+                default -> {
+                    // Whitespace, or a value that isn't a string
+                }
+            }
+        }
+    }
+
+    private void nextInString(char c) {
+        if (inUnicode) {
+            unicode.append(c);
+            if (unicode.length() == 4) {
+                inUnicode = false;
+                try {
+                    string.append((char) Integer.parseInt(unicode.toString(), 16));
+                } catch (NumberFormatException e) {
+                    string.append(unicode);
+                }
+            }
+        } else if (escaped) {
+            escaped = false;
+            switch (c) {
+                case 'n' -> string.append('\n');
+                case 't' -> string.append('\t');
+                case 'r' -> string.append('\r');
+                case 'b' -> string.append('\b');
+                case 'f' -> string.append('\f');
+                case 'u' -> {
+                    inUnicode = true;
+                    unicode.setLength(0);
+                }
+                default -> string.append(c);
+            }
+        } else if (c == '\\') {
+            escaped = true;
+        } else if (c == '"') {
+            inString = false;
+            endString(string.toString());
+        } else {
+            string.append(c);
+        }
+    }
+
+    private void endString(String value) {
+        if (open.size() == 1 && expectingKey) {
+            key = value;
+        } else if (round != null && open.size() == 3) {
+            round.add(value);
+        }
+    }
+
+    private void openArray() {
+        open.push('[');
+        if (open.size() == 2 && ("options".equals(key) || "responses".equals(key))) {
+            section = key;
+        } else if (open.size() == 3 && section != null) {
+            round = new ArrayList<>();
+        }
+    }
+
+    private void closeArray() {
+        if (open.pop() != '[') {
+            return; // Mismatched, so the reply is broken; finish() will say so if it never recovers
+        }
+        if (open.size() == 2 && round != null) {
+            if (section.equals("options")) {
+                dialogue.addOptions(round);
+            } else {
+                dialogue.addResponses(round);
+            }
+            round = null;
+        } else if (open.size() == 1 && section != null) {
+            sawOptions |= section.equals("options");
+            sawResponses |= section.equals("responses");
+            section = null;
+            if (sawOptions && sawResponses) {
+                dialogue.roundsArrived();
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package game.dialogue;
+
+import edu.monash.fit2099.engine.metrics.Counter;
+import edu.monash.fit2099.engine.metrics.Metrics;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Dialogue} that is still being generated, as returned by {@link DialogueManager#streamDialogue} or made
+ * from {@link DialogueManager#generateDialogueAsync}.
+ * <p>
+ * Until the dialogue is ready, {@link #get()} returns a placeholder, so an NPC always has something to offer the
+ * player without waiting for the language model. If generating the dialogue fails, a fallback is used instead,
+ * quietly, so the game's display isn't interrupted.
+ * A dialogue that is being streamed is ready whenever the round being played has arrived, so the player can start
+ * on it while the rest is still being generated. Only the game thread should use a PendingDialogue.
+ * </p>
+ */
+public class PendingDialogue {
+
+    /**
+     * Counts the dialogues that couldn't be generated, so the fallback was used. Failed requests and replies that
+     * couldn't be parsed are also recorded as {@code eldenthing.LlmCall} and {@code eldenthing.DialogueParse}
+     * events.
+     */
+    private static final Counter FALLBACKS = Metrics.counter("dialogue.fallbacks");
+
+    /**
+     * The dialogue being generated.
+     */
+    private final CompletableFuture<Dialogue> future;
+
+    /**
+     * Shown until the dialogue is ready.
+     */
+    private final Dialogue placeholder;
+
+    /**
+     * Makes the dialogue to use if generating it fails.
+     */
+    private final Supplier<Dialogue> fallback;
+
+    /**
+     * The dialogue as far as it has arrived, if it is being streamed; otherwise null.
+     */
+    private final StreamingDialogue partial;
+
+    /**
+     * The dialogue, once it is ready.
+     */
+    private Dialogue dialogue;
+
+    /**
+     * Constructs a new {@code PendingDialogue}.
+     *
+     * @param future the dialogue being generated
+     * @param placeholder shown until the dialogue is ready
+     * @param fallback makes the dialogue to use if generating it fails
+     */
+    public PendingDialogue(CompletableFuture<Dialogue> future, Dialogue placeholder, Supplier<Dialogue> fallback) {
+        this(future, null, placeholder, fallback);
+    }
+
+    /**
+     * Constructs a new {@code PendingDialogue} for a dialogue that is being streamed.
+     *
+     * @param future the dialogue being generated, which completes with {@code partial} once all of it has arrived
+     * @param partial the dialogue as far as it has arrived
+     * @param placeholder shown until the round being played has arrived
+     * @param fallback makes the dialogue to use if generating it fails
+     */
+    public PendingDialogue(CompletableFuture<Dialogue> future, StreamingDialogue partial, Dialogue placeholder,
+                           Supplier<Dialogue> fallback) {
+        this.future = future;
+        this.partial = partial;
+        this.placeholder = placeholder;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Makes a one-line placeholder: a single option, and a single response to it.
+     *
+     * @param option what the player can say while waiting
+     * @param response the NPC's reply
+     * @return the placeholder
+     */
+    public static Dialogue placeholder(String option, String response) {
+        return new Dialogue(List.of(List.of(option)), List.of(List.of(response)));
+    }
+
+    /**
+     * Whether the dialogue has finished generating (or failed to, so the fallback is in use), or is being streamed
+     * and the round being played has arrived.
+     *
+     * @return {@code true} if {@link #get()} returns the real dialogue
+     */
+    public boolean isReady() {
+        if (dialogue == null && future.isDone()) {
+            try {
+                dialogue = future.join();
+            } catch (CompletionException | CancellationException e) {
+                FALLBACKS.increment();
+                dialogue = fallback.get();
+            }
+        }
+        return dialogue != null || (partial != null && partial.isCurrentRoundReady());
+    }
+
+    /**
+     * Whether the dialogue is ready and has been played to the end, so the NPC should start another one.
+     *
+     * @return {@code true} if there is nothing left to say in this dialogue
+     */
+    public boolean isFinished() {
+        return isReady() && get().isFinished();
+    }
+
+    /**
+     * Returns the dialogue being generated, for a {@link DialoguePool} to keep track of.
+     *
+     * @return the future that completes with the dialogue
+     */
+    CompletableFuture<Dialogue> getFuture() {
+        return future;
+    }
+
+    /**
+     * Returns the dialogue if it is ready, or else the placeholder.
+     *
+     * @return the current dialogue
+     */
+    public Dialogue get() {
+        if (!isReady()) {
+            return placeholder;
+        }
+        return dialogue != null ? dialogue : partial;
+    }
+}
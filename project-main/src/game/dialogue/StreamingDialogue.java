@@ -0,0 +1,134 @@
+package game.dialogue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A {@link Dialogue} whose rounds arrive one at a time, while the language model is still generating the rest,
+ * as produced by a {@link JsonDialogueStreamParser}.
+ * <p>
+ * A round can be played as soon as both its options and its responses have arrived. Until then, it has no options,
+ * and the dialogue isn't finished until every round has arrived. Rounds are added by the thread reading the reply,
+ * and can be played by the game thread at the same time.
+ * </p>
+ */
+public class StreamingDialogue extends Dialogue {
+
+    /**
+     * The options for each round that has arrived, shared with {@link Dialogue}.
+     */
+    private final List<List<String>> options;
+
+    /**
+     * The responses for each round that has arrived, shared with {@link Dialogue}.
+     */
+    private final List<List<String>> responses;
+
+    /**
+     * Whether the whole reply has arrived and been checked.
+     */
+    private volatile boolean complete;
+
+    /**
+     * Whether every round has arrived, though the end of the reply may still be on its way.
+     */
+    private volatile boolean allRoundsArrived;
+
+    /**
+     * Constructs a new, empty {@code StreamingDialogue}.
+     */
+    public StreamingDialogue() {
+        this(new CopyOnWriteArrayList<>(), new CopyOnWriteArrayList<>());
+    }
+
+    private StreamingDialogue(List<List<String>> options, List<List<String>> responses) {
+        super(options, responses);
+        this.options = options;
+        this.responses = responses;
+    }
+
+    /**
+     * Adds the options for the next round.
+     *
+     * @param round the options
+     */
+    void addOptions(List<String> round) {
+        options.add(List.copyOf(round));
+    }
+
+    /**
+     * Adds the responses for the next round.
+     *
+     * @param round the responses
+     */
+    void addResponses(List<String> round) {
+        responses.add(List.copyOf(round));
+    }
+
+    /**
+     * Marks every round as having arrived, once the options and the responses have both been closed.
+     */
+    void roundsArrived() {
+        allRoundsArrived = true;
+    }
+
+    /**
+     * Marks the whole reply as having arrived.
+     */
+    void complete() {
+        allRoundsArrived = true;
+        complete = true;
+    }
+
+    /**
+     * Returns how many rounds have arrived.
+     *
+     * @return the number of rounds whose options have arrived
+     */
+    int getRoundCount() {
+        return options.size();
+    }
+
+    /**
+     * Returns whether every round has arrived.
+     *
+     * @return {@code true} if no more rounds will be added
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns whether the current round can be played: its options and responses have arrived, or there won't be
+     * any more rounds.
+     *
+     * @return {@code true} if the current round is ready
+     */
+    public boolean isCurrentRoundReady() {
+        int round = getRoundIndex();
+        return allRoundsArrived || (round < options.size() && round < responses.size());
+    }
+
+    /**
+     * Returns the list of options available to the player in the current round.
+     *
+     * @return a list of options for the current round, or an empty list if the dialogue is finished or the round
+     *         hasn't arrived yet
+     */
+    @Override
+    public List<String> getCurrentOptions() {
+        return isCurrentRoundReady() ? super.getCurrentOptions() : List.of();
+    }
+
+    /**
+     * Returns whether the dialogue has finished: every round has arrived, and there are no more options left.
+     * That can be before the rest of the reply has arrived, so the last round can be played and the dialogue
+     * finished while the reply is still being read.
+     *
+     * @return {@code true} if the dialogue has finished, {@code false} otherwise
+     */
+    @Override
+    public boolean isFinished() {
+        return allRoundsArrived && super.isFinished();
+    }
+}
@@ -0,0 +1,45 @@
+package game.events;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.events.GameEvent;
+
+/**
+ * An event recording that an actor has been healed.
+ */
+public class Healed implements GameEvent {
+
+    /** The actor that was healed */
+    private final Actor actor;
+    /** How many hit points were restored */
+    private final int amount;
+
+    /**
+     * Constructs a Healed event.
+     *
+     * @param actor  the actor that was healed
+     * @param amount how many hit points were restored
+     */
+    public Healed(Actor actor, int amount) {
+        this.actor = actor;
+        this.amount = amount;
+    }
+
+    /**
+     * @return the actor that was healed
+     */
+    public Actor getActor() {
+        return actor;
+    }
+
+    /**
+     * @return how many hit points were restored
+     */
+    public int getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String describe() {
+        return actor + " is healed.";
+    }
+}
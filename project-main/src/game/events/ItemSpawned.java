@@ -0,0 +1,50 @@
+package game.events;
+
+import edu.monash.fit2099.engine.events.GameEvent;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.Location;
+
+/**
+ * An event recording that a new item has appeared on the map, e.g. an egg being laid.
+ */
+public class ItemSpawned implements GameEvent {
+
+    /** The item that appeared */
+    private final Item item;
+    /** Where it appeared */
+    private final Location location;
+    /** What happened, e.g. "Omen Sheep laid an egg" */
+    private final String cause;
+
+    /**
+     * Constructs an ItemSpawned event.
+     *
+     * @param item     the item that appeared
+     * @param location where it appeared
+     * @param cause    what happened, e.g. "Omen Sheep laid an egg"
+     */
+    public ItemSpawned(Item item, Location location, String cause) {
+        this.item = item;
+        this.location = location;
+        this.cause = cause;
+    }
+
+    /**
+     * @return the item that appeared
+     */
+    public Item getItem() {
+        return item;
+    }
+
+    /**
+     * @return where the item appeared
+     */
+    public Location getLocation() {
+        return location;
+    }
+
+    @Override
+    public String describe() {
+        return cause + " at " + location;
+    }
+}
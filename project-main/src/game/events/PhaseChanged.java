@@ -0,0 +1,34 @@
+package game.events;
+
+import edu.monash.fit2099.engine.events.GameEvent;
+import game.timemanagement.Phases;
+
+/**
+ * An event recording that the time of day has changed.
+ */
+public class PhaseChanged implements GameEvent {
+
+    /** The phase the game is now in */
+    private final Phases phase;
+
+    /**
+     * Constructs a PhaseChanged event.
+     *
+     * @param phase the phase the game is now in
+     */
+    public PhaseChanged(Phases phase) {
+        this.phase = phase;
+    }
+
+    /**
+     * @return the phase the game is now in
+     */
+    public Phases getPhase() {
+        return phase;
+    }
+
+    @Override
+    public String describe() {
+        return "Time has changed to: " + phase;
+    }
+}
@@ -0,0 +1,57 @@
+package game.events;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.events.GameEvent;
+import edu.monash.fit2099.engine.positions.Location;
+
+/**
+ * An event recording that an actor has teleported, possibly to another map.
+ */
+public class Teleported implements GameEvent {
+
+    /** The actor that teleported */
+    private final Actor actor;
+    /** Where the actor was */
+    private final Location from;
+    /** Where the actor is now */
+    private final Location to;
+
+    /**
+     * Constructs a Teleported event.
+     *
+     * @param actor the actor that teleported
+     * @param from  where the actor was
+     * @param to    where the actor is now
+     */
+    public Teleported(Actor actor, Location from, Location to) {
+        this.actor = actor;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @return the actor that teleported
+     */
+    public Actor getActor() {
+        return actor;
+    }
+
+    /**
+     * @return where the actor was
+     */
+    public Location getFrom() {
+        return from;
+    }
+
+    /**
+     * @return where the actor is now
+     */
+    public Location getTo() {
+        return to;
+    }
+
+    @Override
+    public String describe() {
+        return actor + " teleports to " + to.x() + "," + to.y();
+    }
+}
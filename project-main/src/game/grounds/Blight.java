@@ -1,23 +1,23 @@
 package game.grounds;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperations;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.TickPolicy;
 import game.actions.Curable;
 import game.actions.CureAction;
 import game.actors.Ability;
 import game.actors.Status;
 import game.actors.creatures.Zombie;
 import game.behaviours.StandardNPCController;
+import game.jfr.SpawnEvent;
 import game.timemanagement.Phases;
 import game.timemanagement.ServiceLocator;
 import game.timemanagement.TimeAware;
-import game.timemanagement.TimeProvider;
-
-import java.util.Random;
 
 /**
  * A class representing a blight covering the ground of the valley.
@@ -25,9 +25,6 @@ import java.util.Random;
  */
 public class Blight extends Ground implements Curable, TimeAware {
     private static final int CHANCE_TO_SPAWN_ZOMBIE = 1;
-    private final TimeProvider timeProvider;
-    private final Random random;
-
 
     /**
      * Constructs a Blight ground object. The Blight is initialized with the display character 'x'
@@ -35,9 +32,7 @@ public class Blight extends Ground implements Curable, TimeAware {
      */
     public Blight() {
         super('x', "Blight");
-        this.random = new Random();
         this.addCapability(Status.CURSED);
-        this.timeProvider = ServiceLocator.getTimeProvider();
     }
 
     @Override
@@ -90,12 +85,24 @@ public class Blight extends Ground implements Curable, TimeAware {
     public void onTimeChange(Location location) {
         if (!location.containsAnActor()) {
             if (
-                    this.timeProvider.getCurrentPhase() == Phases.NIGHT &&
-                    random.nextInt(100) < CHANCE_TO_SPAWN_ZOMBIE &&
+                    ServiceLocator.getTimeProvider().getCurrentPhase() == Phases.NIGHT &&
+                    GameRandom.get().nextInt(100) < CHANCE_TO_SPAWN_ZOMBIE &&
                     this.hasCapability(Status.CURSED)
             ) {
-                location.addActor(new Zombie(new StandardNPCController()));
+                Zombie zombie = new Zombie(new StandardNPCController());
+                location.addActor(zombie);
+                SpawnEvent.spawned(zombie, location, "blight");
             }
         }
     }
+
+    /**
+     * Zombies only rise from the blight at night, so it only needs ticking then.
+     *
+     * @return a policy that is due only at night
+     */
+    @Override
+    public TickPolicy getTickPolicy() {
+        return Phases.NIGHT.tickPolicy();
+    }
 }
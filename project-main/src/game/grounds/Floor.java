@@ -1,6 +1,7 @@
 package game.grounds;
 
 import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.positions.TickPolicy;
 
 /**
  * A class that represents the floor inside a building.
@@ -10,4 +11,14 @@ public class Floor extends Ground {
     public Floor() {
         super('_', "Floor");
     }
+
+    /**
+     * A floor never changes, so it never needs ticking.
+     *
+     * @return {@link TickPolicy#NEVER}
+     */
+    @Override
+    public TickPolicy getTickPolicy() {
+        return TickPolicy.NEVER;
+    }
 }
@@ -1,15 +1,14 @@
 package game.grounds;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.TickPolicy;
 import game.actors.Status;
 import game.items.edibles.NightingaleBerry;
 import game.timemanagement.Phases;
 import game.timemanagement.ServiceLocator;
 import game.timemanagement.TimeAware;
-import game.timemanagement.TimeProvider;
-
-import java.util.Random;
 
 /**
  * A class representing the soil in the valley
@@ -18,16 +17,12 @@ import java.util.Random;
  * Modified by Adji Ilhamhafiz Sarie Hakim
  */
 public class Soil extends Ground implements TimeAware {
-    private final TimeProvider timeProvider;
-    private final Random random;
     private static final int NIGHTINGALE_BERRY_SPAWN_CHANCE = 25;
 
 
     public Soil() {
         super('.', "Soil");
         this.addCapability(GroundStatus.PLANTABLE);
-        this.random = new Random();
-        this.timeProvider = ServiceLocator.getTimeProvider();
     }
 
     @Override
@@ -39,11 +34,21 @@ public class Soil extends Ground implements TimeAware {
     @Override
     public void onTimeChange(Location location) {
         if (
-            this.timeProvider.getCurrentPhase() == Phases.NIGHT &&
-            random.nextInt(100) < NIGHTINGALE_BERRY_SPAWN_CHANCE &&
+            ServiceLocator.getTimeProvider().getCurrentPhase() == Phases.NIGHT &&
+            GameRandom.get().nextInt(100) < NIGHTINGALE_BERRY_SPAWN_CHANCE &&
             this.hasCapability(Status.BLESSED_BY_GRACE)
         ){
             location.addItem(new NightingaleBerry());
         }
     }
+
+    /**
+     * Berries only grow at night, so soil only needs ticking then.
+     *
+     * @return a policy that is due only at night
+     */
+    @Override
+    public TickPolicy getTickPolicy() {
+        return Phases.NIGHT.tickPolicy();
+    }
 }
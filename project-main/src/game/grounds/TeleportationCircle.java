@@ -5,6 +5,7 @@ import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.TickPolicy;
 import game.actions.TeleportAction;
 import game.actors.Ability;
 import game.actors.Status;
@@ -67,4 +68,13 @@ public class TeleportationCircle extends Ground {
         return actions;
     }
 
+    /**
+     * A teleportation circle only reacts to actors standing on it, so it never needs ticking.
+     *
+     * @return {@link TickPolicy#NEVER}
+     */
+    @Override
+    public TickPolicy getTickPolicy() {
+        return TickPolicy.NEVER;
+    }
 }
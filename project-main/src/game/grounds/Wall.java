@@ -2,6 +2,7 @@ package game.grounds;
 
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.positions.TickPolicy;
 
 /**
  * A class representing a wall that cannot be entered by any actor
@@ -17,4 +18,14 @@ public class Wall extends Ground {
     public boolean canActorEnter(Actor actor) {
         return false;
     }
+
+    /**
+     * A wall never changes, so it never needs ticking.
+     *
+     * @return {@link TickPolicy#NEVER}
+     */
+    @Override
+    public TickPolicy getTickPolicy() {
+        return TickPolicy.NEVER;
+    }
 }
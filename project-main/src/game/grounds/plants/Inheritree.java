@@ -70,7 +70,9 @@ public class Inheritree extends Plant {
                 adjacent.setGround(new Soil());
             }
 
-            adjacent.getGround().addCapability(BLESSED_BY_GRACE);
+            if (!adjacent.getGround().hasCapability(BLESSED_BY_GRACE)) {
+                adjacent.getOwnGround().addCapability(BLESSED_BY_GRACE);
+            }
         }
 
     }
@@ -8,6 +8,7 @@ import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.TickPolicy;
 import game.actions.PlantAction;
 import game.grounds.GroundStatus;
 import game.grounds.plants.Plant;
@@ -93,4 +94,14 @@ public class Seed extends Item {
         return actionList;
 
     }
+
+    /**
+     * A seed on the ground never changes, so it never needs ticking.
+     *
+     * @return {@link TickPolicy#NEVER}
+     */
+    @Override
+    public TickPolicy getTickPolicy() {
+        return TickPolicy.NEVER;
+    }
 }
@@ -1,6 +1,7 @@
 package game.items;
 
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.TickPolicy;
 import game.actors.Ability;
 
 /**
@@ -12,4 +13,14 @@ public class Talisman extends Item {
         super("Talisman", 'o', true);
         this.addCapability(Ability.CURE);
     }
+
+    /**
+     * A talisman on the ground never changes, so it never needs ticking.
+     *
+     * @return {@link TickPolicy#NEVER}
+     */
+    @Override
+    public TickPolicy getTickPolicy() {
+        return TickPolicy.NEVER;
+    }
 }
@@ -10,6 +10,7 @@ import game.actions.EatAction;
 import game.actors.creatures.Creature;
 import game.conditions.Condition;
 import game.effects.Effect;
+import game.jfr.SpawnEvent;
 
 
 /**
@@ -77,6 +78,7 @@ public class Egg extends Item implements Edible {
             if (!location.containsAnActor()) {
                 location.addActor(hatchling);
                 location.removeItem(this);
+                SpawnEvent.spawned(hatchling, location, "egg hatch");
                 return;
             }
 
@@ -86,6 +88,7 @@ public class Egg extends Item implements Edible {
                 if (!adjacent.containsAnActor()) {
                     adjacent.addActor(hatchling);
                     location.removeItem(this);
+                    SpawnEvent.spawned(hatchling, adjacent, "egg hatch");
                     return;
                 }
             }
@@ -6,6 +6,7 @@ import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.TickPolicy;
 import game.actions.EatAction;
 import game.effects.AttributeEffect;
 import game.effects.EffectsList;
@@ -102,4 +103,14 @@ public class NightingaleBerry extends Item implements TimeAware, Edible {
 
         return actions;
     }
+
+    /**
+     * The berry only withers away by day, so it only needs ticking then.
+     *
+     * @return a policy that is due only during the day
+     */
+    @Override
+    public TickPolicy getTickPolicy() {
+        return Phases.DAY.tickPolicy();
+    }
 }
@@ -0,0 +1,39 @@
+package game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for turning a language model's reply into a Dialogue.
+ */
+@Name("eldenthing.DialogueParse")
+@Label("Dialogue Parse")
+@Category({"Elden Thing", "Game"})
+@Description("Parsing a language model's reply into a Dialogue")
+@StackTrace(false)
+public class DialogueParseEvent extends Event {
+
+    /**
+     * How long the reply was, in characters.
+     */
+    @Label("Input Length")
+    @DataAmount(DataAmount.BYTES)
+    public int inputLength;
+
+    /**
+     * How many rounds of conversation the Dialogue has; 0 if it couldn't be parsed.
+     */
+    @Label("Rounds")
+    public int rounds;
+
+    /**
+     * Whether the reply could be parsed.
+     */
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,72 @@
+package game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for one request to a language model, from sending the prompt to having the reply.
+ * <p>
+ * It is committed by whichever thread handles the reply, so it has no useful stack trace.
+ */
+@Name("eldenthing.LlmCall")
+@Label("LLM Call")
+@Category({"Elden Thing", "Game"})
+@Description("A request to a language model")
+@StackTrace(false)
+public class LlmCallEvent extends Event {
+
+    /**
+     * The class of the service that made the request.
+     */
+    @Label("Service")
+    public Class<?> service;
+
+    /**
+     * How long the prompt was, in characters.
+     */
+    @Label("Prompt Length")
+    @DataAmount(DataAmount.BYTES)
+    public int promptLength;
+
+    /**
+     * How long the reply was, in characters.
+     */
+    @Label("Response Length")
+    @DataAmount(DataAmount.BYTES)
+    public int responseLength;
+
+    /**
+     * The HTTP status of the reply, or -1 if there wasn't one.
+     */
+    @Label("Status")
+    public int status = -1;
+
+    /**
+     * How many times the request was sent, or 0 if that isn't known.
+     */
+    @Label("Attempts")
+    public int attempts;
+
+    /**
+     * How many tokens the prompt was, as the model counted them, or 0 if it didn't say.
+     */
+    @Label("Prompt Tokens")
+    public int promptTokens;
+
+    /**
+     * How many tokens the reply was, as the model counted them, or 0 if it didn't say.
+     */
+    @Label("Reply Tokens")
+    public int replyTokens;
+
+    /**
+     * What went wrong, or null if nothing did.
+     */
+    @Label("Error")
+    public String error;
+}
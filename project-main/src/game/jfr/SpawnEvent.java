@@ -0,0 +1,69 @@
+package game.jfr;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Location;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for an Actor appearing on a map: a zombie rising from the blight, the suspicious
+ * merchant turning up at night, or an egg hatching.
+ * <p>
+ * This costs nothing unless a recording is running.
+ *
+ * @see edu.monash.fit2099.engine.jfr.TurnEvent
+ */
+@Name("eldenthing.Spawn")
+@Label("Spawn")
+@Category({"Elden Thing", "Game"})
+@Description("An Actor appearing on a map")
+@StackTrace(false)
+public class SpawnEvent extends Event {
+
+    /**
+     * The class of the Actor that appeared.
+     */
+    @Label("Actor Class")
+    public Class<?> actorClass;
+
+    /**
+     * What brought it about, e.g. "blight".
+     */
+    @Label("Cause")
+    public String cause;
+
+    /**
+     * The map it appeared on.
+     */
+    @Label("Map")
+    public String map;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    /**
+     * Records that an Actor has appeared, if anybody is recording.
+     *
+     * @param actor    the Actor
+     * @param location where it appeared
+     * @param cause    what brought it about
+     */
+    public static void spawned(Actor actor, Location location, String cause) {
+        SpawnEvent event = new SpawnEvent();
+        if (event.shouldCommit()) {
+            event.actorClass = actor.getClass();
+            event.cause = cause;
+            event.map = location.map().toString();
+            event.x = location.x();
+            event.y = location.y();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package game.llm;
+
+import edu.monash.fit2099.engine.metrics.Counter;
+import edu.monash.fit2099.engine.metrics.Metrics;
+import game.timemanagement.ServiceLocator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * An {@link LLMService} that remembers the replies of another one, so that asking the same thing twice only
+ * costs one request.
+ * <p>
+ * Replies are kept in memory, most recently used first, and optionally on disk as well, so that they survive
+ * restarts. Each reply is used for a fixed time after it was generated, after which the prompt is sent again;
+ * within that time, an NPC that asks the same question gets the same answer. Failed requests aren't remembered.
+ * <p>
+ * If several threads ask the same thing at once, only one request is made, and they all get its reply.
+ * <p>
+ * If the disk fails, the failure is counted, the player is told once, and from then on replies are only kept in
+ * memory.
+ *
+ * <p><b>Example usage:</b>
+ * <pre>{@code
+ * LLMService llm = new CachingLLMService(new GeminiService(apiKey), Duration.ofDays(1), 256, Path.of("llm-cache"));
+ * }</pre>
+ * </p>
+ */
+public class CachingLLMService implements LLMService, AutoCloseable {
+
+    /** How big the data file on disk can get before old replies are thrown away. */
+    private static final long DISK_BYTES = 64L * 1024 * 1024;
+
+    /** How many replies can be kept on disk. */
+    private static final int DISK_ENTRIES = 8192;
+
+    private static final Counter MEMORY_HITS = Metrics.counter("llm.cache.memoryHits");
+    private static final Counter DISK_HITS = Metrics.counter("llm.cache.diskHits");
+    private static final Counter MISSES = Metrics.counter("llm.cache.misses");
+    private static final Counter COALESCED = Metrics.counter("llm.cache.coalesced");
+    private static final Counter DISK_ERRORS = Metrics.counter("llm.cache.diskErrors");
+
+    private final LLMService delegate;
+    private final long timeToLiveMillis;
+    private final Map<String, ResponseStore.Stored> memory;
+    private volatile ResponseStore disk; // null if replies are only kept in memory, or the disk has failed
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a {@code CachingLLMService} that only keeps replies in memory.
+     *
+     * @param delegate      the service that generates the replies
+     * @param timeToLive    how long a reply is used for
+     * @param memoryEntries how many replies to keep in memory
+     */
+    public CachingLLMService(LLMService delegate, Duration timeToLive, int memoryEntries) {
+        this(delegate, timeToLive, memoryEntries, null);
+    }
+
+    /**
+     * Constructs a {@code CachingLLMService} that keeps replies in memory and in a directory on disk.
+     *
+     * @param delegate      the service that generates the replies
+     * @param timeToLive    how long a reply is used for
+     * @param memoryEntries how many replies to keep in memory
+     * @param directory     where to keep replies on disk, or null not to
+     * @throws UncheckedIOException if the directory can't be used
+     */
+    public CachingLLMService(LLMService delegate, Duration timeToLive, int memoryEntries, Path directory) {
+        if (timeToLive.isNegative() || timeToLive.isZero() || memoryEntries <= 0)
+            throw new IllegalArgumentException("Cache size and time to live must be positive");
+        this.delegate = delegate;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResponseStore.Stored> eldest) {
+                return size() > memoryEntries;
+            }
+        };
+        try {
+            this.disk = directory == null ? null : new ResponseStore(directory, DISK_BYTES, DISK_ENTRIES);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the remembered reply to a prompt if there is one, or else asks the underlying service.
+     *
+     * @param prompt the input prompt to send to the language model
+     * @return the generated text response from the model
+     * @throws LLMServiceException if there's no remembered reply and the underlying service fails
+     */
+    @Override
+    public String generateText(String prompt) {
+        return get(prompt, null);
+    }
+
+    /**
+     * Passes on the remembered reply to a prompt all at once if there is one, or else streams it from the
+     * underlying service.
+     *
+     * @param prompt the input prompt to send to the language model
+     * @param onText called with each piece of the response, in order
+     * @return the whole response
+     * @throws LLMServiceException if there's no remembered reply and the underlying service fails
+     */
+    @Override
+    public String streamText(String prompt, Consumer<String> onText) {
+        return get(prompt, onText);
+    }
+
+    /**
+     * Returns the remembered reply to a prompt, without asking the underlying service.
+     *
+     * @param prompt the input prompt
+     * @return the reply, or null if none is remembered
+     */
+    @Override
+    public String cachedText(String prompt) {
+        byte[] digest = digest(prompt);
+        String key = HexFormat.of().formatHex(digest);
+        long now = System.currentTimeMillis();
+        String cached = fromMemory(key, now);
+        return cached != null ? cached : fromDisk(digest, key, now);
+    }
+
+    /**
+     * Looks for a remembered reply, or else asks the underlying service for it, streaming if there is somewhere
+     * to stream it to.
+     */
+    private String get(String prompt, Consumer<String> onText) {
+        byte[] digest = digest(prompt);
+        String key = HexFormat.of().formatHex(digest);
+        long now = System.currentTimeMillis();
+
+        String cached = fromMemory(key, now);
+        if (cached != null) {
+            MEMORY_HITS.increment();
+            return passOn(cached, onText);
+        }
+        cached = fromDisk(digest, key, now);
+        if (cached != null) {
+            DISK_HITS.increment();
+            return passOn(cached, onText);
+        }
+
+        CompletableFuture<String> request = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, request);
+        if (existing != null) {
+            COALESCED.increment();
+            return passOn(await(existing), onText);
+        }
+
+        try {
+            // Another thread may have finished the same request between looking in memory and now
+            String response = fromMemory(key, now);
+            if (response == null) {
+                MISSES.increment();
+                response = onText == null ? delegate.generateText(prompt) : delegate.streamText(prompt, onText);
+                remember(digest, key, response);
+            } else {
+                passOn(response, onText);
+            }
+            request.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, request);
+        }
+    }
+
+    /**
+     * Writes the replies on disk back, and closes the files.
+     */
+    @Override
+    public void close() {
+        ResponseStore disk = this.disk;
+        if (disk != null) {
+            try {
+                disk.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private String fromMemory(String key, long now) {
+        synchronized (memory) {
+            ResponseStore.Stored stored = memory.get(key);
+            if (stored == null)
+                return null;
+            if (stored.expiresAt() <= now) {
+                memory.remove(key);
+                return null;
+            }
+            return stored.response();
+        }
+    }
+
+    private String fromDisk(byte[] digest, String key, long now) {
+        ResponseStore disk = this.disk;
+        if (disk == null)
+            return null;
+        try {
+            ResponseStore.Stored stored = disk.get(digest, now);
+            if (stored == null)
+                return null;
+            synchronized (memory) {
+                memory.put(key, stored);
+            }
+            return stored.response();
+        } catch (IOException e) {
+            diskFailed(disk, e);
+            return null;
+        }
+    }
+
+    private void remember(byte[] digest, String key, String response) {
+        long expiresAt = System.currentTimeMillis() + timeToLiveMillis;
+        synchronized (memory) {
+            memory.put(key, new ResponseStore.Stored(response, expiresAt));
+        }
+        ResponseStore disk = this.disk;
+        if (disk != null) {
+            try {
+                disk.put(digest, response, expiresAt, System.currentTimeMillis());
+            } catch (IOException e) {
+                diskFailed(disk, e); // Still usable from memory
+            }
+        }
+    }
+
+    /**
+     * Stops using the disk after it fails, since a store that has failed once (e.g. while compacting) may fail on
+     * every request from then on. Only the first failure is reported.
+     */
+    private void diskFailed(ResponseStore failed, IOException e) {
+        DISK_ERRORS.increment();
+        synchronized (this) {
+            if (disk != failed)
+                return;
+            disk = null;
+        }
+        try {
+            failed.close();
+        } catch (IOException ignored) {
+            // It has already failed, and nothing more will be written to it
+        }
+        ServiceLocator.getDisplay().printlnLater(
+                "The LLM reply cache on disk has stopped working (" + e + "); replies are only kept in memory now.");
+    }
+
+    private static String passOn(String response, Consumer<String> onText) {
+        if (onText != null)
+            onText.accept(response);
+        return response;
+    }
+
+    private static String await(CompletableFuture<String> request) {
+        try {
+            return request.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    private static byte[] digest(String prompt) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(prompt.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Every Java runtime has SHA-256", e);
+        }
+    }
+}
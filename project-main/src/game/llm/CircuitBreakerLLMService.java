@@ -0,0 +1,408 @@
+package game.llm;
+
+import edu.monash.fit2099.engine.metrics.Counter;
+import edu.monash.fit2099.engine.metrics.Metrics;
+import edu.monash.fit2099.engine.metrics.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * An {@link LLMService} that stops waiting for another one when it is slow or failing, and answers from somewhere
+ * else instead.
+ * <p>
+ * Each request has a time budget. If the underlying service hasn't replied within it, or fails, the reply comes
+ * from the first of these that has one: a reply the underlying service already has to hand (see
+ * {@link LLMService#cachedText(String)}); the fallback service, which is meant to make up a reply locally, such as
+ * an {@link OfflineLLMService}; and otherwise an {@link LLMServiceException}, after which an NPC uses its own
+ * stock dialogue. A request that runs out of time is left to finish in the background, so its reply can still
+ * be cached for next time.
+ * </p>
+ * <p>
+ * A streamed reply only has to start within the budget, and is judged against the latency target by how long
+ * its first text took. Once text is flowing, the stream is left to finish within the underlying service's own
+ * deadline (see {@link HttpTransport}), so a long story isn't cut off part-way through.
+ * </p>
+ * <p>
+ * After several failures in a row, counting replies that took (or started) later than the latency target even
+ * though they arrived, the circuit opens: for a while every request is answered from the fallbacks straight away, without
+ * troubling the underlying service. Then one request is let through as a trial. If it succeeds the circuit
+ * closes again; if not, it stays open for twice as long as before, up to five minutes.
+ * </p>
+ * <p>
+ * A reply that was being streamed can't be swapped for another part-way through, so if a streamed request fails
+ * after some of it has been passed on, it fails outright.
+ * </p>
+ * <p>
+ * The defaults can be changed with {@code -Dllm.breaker.budgetMillis=N} (10000),
+ * {@code -Dllm.breaker.targetMillis=N} (5000), {@code -Dllm.breaker.failures=N} (3) and
+ * {@code -Dllm.breaker.openMillis=N} (30000). With metrics on, the report has the underlying service's latency,
+ * and counts the requests, failures, timeouts and slow replies, how often the circuit opened, and how many
+ * replies came from each fallback.
+ * </p>
+ *
+ * <p><b>Example usage:</b>
+ * <pre>{@code
+ * LLMService llm = new CircuitBreakerLLMService(new CachingLLMService(gemini, ttl, 256), new OfflineLLMService());
+ * }</pre>
+ * </p>
+ */
+public class CircuitBreakerLLMService implements LLMService {
+
+    private static final Duration DEFAULT_BUDGET = Duration.ofMillis(Long.getLong("llm.breaker.budgetMillis", 10_000L));
+    private static final Duration DEFAULT_LATENCY_TARGET =
+            Duration.ofMillis(Long.getLong("llm.breaker.targetMillis", 5_000L));
+    private static final int DEFAULT_FAILURE_THRESHOLD = Integer.getInteger("llm.breaker.failures", 3);
+    private static final Duration DEFAULT_OPEN_TIME = Duration.ofMillis(Long.getLong("llm.breaker.openMillis", 30_000L));
+    private static final Duration MAX_OPEN_TIME = Duration.ofMinutes(5);
+
+    /**
+     * Times each request to the underlying service, from sending it to the reply, even if that was too late.
+     */
+    private static final Timer LATENCY = Metrics.timer("llm.breaker.latency");
+
+    private static final Counter REQUESTS = Metrics.counter("llm.breaker.requests");
+    private static final Counter FAILURES = Metrics.counter("llm.breaker.failures");
+    private static final Counter TIMEOUTS = Metrics.counter("llm.breaker.timeouts");
+    private static final Counter SLOW = Metrics.counter("llm.breaker.slow");
+    private static final Counter OPENED = Metrics.counter("llm.breaker.opened");
+    private static final Counter REJECTED = Metrics.counter("llm.breaker.rejected");
+    private static final Counter FROM_CACHE = Metrics.counter("llm.fallback.cached");
+    private static final Counter GENERATED = Metrics.counter("llm.fallback.generated");
+    private static final Counter NO_FALLBACK = Metrics.counter("llm.fallback.none");
+
+    /**
+     * Whether requests are going to the underlying service.
+     */
+    public enum State {
+        /** Requests go to the underlying service. */
+        CLOSED,
+        /** Requests are answered from the fallbacks. */
+        OPEN,
+        /** One request has gone to the underlying service as a trial, and the rest are answered from the fallbacks. */
+        HALF_OPEN
+    }
+
+    /**
+     * How a request was let through, if it was.
+     */
+    private enum Admission { REJECTED, REGULAR, TRIAL }
+
+    private final LLMService delegate;
+    private final LLMService fallback;
+    private final long budgetNanos;
+    private final long latencyTargetNanos;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    // Guarded by this
+    private State state = State.CLOSED;
+    private int failuresInARow;
+    private int timesOpened;
+    private long retryAtNanos;
+
+    /**
+     * Constructs a {@code CircuitBreakerLLMService} with the default budget, latency target, failure threshold
+     * and open time.
+     *
+     * @param delegate the service to ask first
+     * @param fallback makes up a reply when the delegate can't give one, or null to have no such fallback
+     */
+    public CircuitBreakerLLMService(LLMService delegate, LLMService fallback) {
+        this(delegate, fallback, DEFAULT_BUDGET, DEFAULT_LATENCY_TARGET, DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_TIME);
+    }
+
+    /**
+     * Constructs a {@code CircuitBreakerLLMService}.
+     *
+     * @param delegate         the service to ask first
+     * @param fallback         makes up a reply when the delegate can't give one, or null to have no such fallback
+     * @param budget           how long to wait for the delegate's reply, or the start of a streamed one, before
+     *                         falling back
+     * @param latencyTarget    a reply that takes (or starts) later than this counts as a failure, though it is
+     *                         still used
+     * @param failureThreshold how many failures in a row open the circuit
+     * @param openTime         how long the circuit stays open the first time before a trial request
+     */
+    public CircuitBreakerLLMService(LLMService delegate, LLMService fallback, Duration budget,
+                                    Duration latencyTarget, int failureThreshold, Duration openTime) {
+        if (budget.isNegative() || budget.isZero() || latencyTarget.isNegative() || failureThreshold <= 0
+                || openTime.isNegative())
+            throw new IllegalArgumentException("Budget and failure threshold must be positive");
+        this.delegate = delegate;
+        this.fallback = fallback;
+        this.budgetNanos = budget.toNanos();
+        this.latencyTargetNanos = latencyTarget.toNanos();
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openTime.toNanos();
+    }
+
+    /**
+     * Asks the underlying service for a reply, or the fallbacks if it is failing or doesn't reply in time.
+     *
+     * @param prompt the input prompt to send to the language model
+     * @return the generated text response
+     * @throws LLMServiceException if neither the underlying service nor any fallback had a reply
+     */
+    @Override
+    public String generateText(String prompt) {
+        return request(prompt, null);
+    }
+
+    /**
+     * Streams a reply from the underlying service, or passes on one from the fallbacks if it is failing or doesn't
+     * start replying in time.
+     *
+     * @param prompt the input prompt to send to the language model
+     * @param onText called with each piece of the response, in order
+     * @return the whole response
+     * @throws LLMServiceException if neither the underlying service nor any fallback had a reply, or the
+     *                             underlying service failed part-way through its reply
+     */
+    @Override
+    public String streamText(String prompt, Consumer<String> onText) {
+        return request(prompt, onText);
+    }
+
+    /**
+     * Returns the reply the underlying service has to hand, if it has one.
+     *
+     * @param prompt the input prompt
+     * @return the reply, or null if there isn't one to hand
+     */
+    @Override
+    public String cachedText(String prompt) {
+        return delegate.cachedText(prompt);
+    }
+
+    /**
+     * Returns whether requests are going to the underlying service. The circuit stays open until the next request
+     * after the open time has passed.
+     *
+     * @return the state of the circuit
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private String request(String prompt, Consumer<String> onText) {
+        REQUESTS.increment();
+        Admission admission = admit();
+        if (admission == Admission.REJECTED) {
+            REJECTED.increment();
+            return fallBack(prompt, onText, "the circuit is open", null);
+        }
+
+        Gate gate = onText == null ? null : new Gate(onText);
+        long start = System.nanoTime();
+        long timing = Metrics.start();
+        CompletableFuture<String> request = CompletableFuture.supplyAsync(
+                () -> gate == null ? delegate.generateText(prompt) : delegate.streamText(prompt, gate), Calls.EXECUTOR);
+        request.whenComplete((reply, error) -> LATENCY.of(delegate.getClass()).stop(timing));
+        // A streamed reply only has to start within the budget; after that it is up to the underlying service
+        CompletableFuture<?> started = gate == null ? request : CompletableFuture.anyOf(request, gate.started);
+        try {
+            try {
+                started.get(budgetNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (gate == null || gate.closeIfSilent()) {
+                    TIMEOUTS.increment();
+                    recordFailure(admission);
+                    return fallBack(prompt, onText, "no reply within the budget", e);
+                }
+                // The reply started just as the budget ran out
+            }
+            long waited = (gate == null ? System.nanoTime() : gate.startedAt(System.nanoTime())) - start;
+            String reply = request.get();
+            if (waited > latencyTargetNanos) {
+                SLOW.increment();
+                recordFailure(admission);
+            } else {
+                recordSuccess(admission);
+            }
+            return reply;
+        } catch (ExecutionException e) {
+            FAILURES.increment();
+            recordFailure(admission);
+            if (gate != null && !gate.closeIfSilent()) {
+                throw new LLMServiceException("The reply failed part-way through: " + e.getCause(), e.getCause());
+            }
+            return fallBack(prompt, onText, String.valueOf(e.getCause()), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(admission);
+            if (gate != null) {
+                gate.close();
+            }
+            throw new LLMServiceException("Interrupted while waiting for the reply", e);
+        }
+    }
+
+    /**
+     * Answers from the fallbacks: a reply the underlying service has to hand, or else one from the fallback service.
+     */
+    private String fallBack(String prompt, Consumer<String> onText, String reason, Throwable cause) {
+        String cached = delegate.cachedText(prompt);
+        if (cached != null) {
+            FROM_CACHE.increment();
+            if (onText != null) {
+                onText.accept(cached);
+            }
+            return cached;
+        }
+        LLMServiceException failure = new LLMServiceException("No reply from the language model: " + reason, cause);
+        if (fallback != null) {
+            try {
+                String generated = onText == null ? fallback.generateText(prompt) : fallback.streamText(prompt, onText);
+                GENERATED.increment();
+                return generated;
+            } catch (LLMServiceException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        NO_FALLBACK.increment();
+        throw failure;
+    }
+
+    /**
+     * Decides whether a request goes to the underlying service, letting one through as a trial once the circuit
+     * has been open for long enough.
+     */
+    private synchronized Admission admit() {
+        switch (state) {
+            case CLOSED:
+                return Admission.REGULAR;
+            case OPEN:
+                if (System.nanoTime() - retryAtNanos < 0) {
+                    return Admission.REJECTED;
+                }
+                state = State.HALF_OPEN;
+                return Admission.TRIAL;
+            default:
+                return Admission.REJECTED; // A trial is already under way
+        }
+    }
+
+    private synchronized void recordSuccess(Admission admission) {
+        if (admission == Admission.TRIAL) {
+            state = State.CLOSED;
+            timesOpened = 0;
+        }
+        failuresInARow = 0;
+    }
+
+    private synchronized void recordFailure(Admission admission) {
+        if (admission == Admission.TRIAL) {
+            open();
+        } else if (state == State.CLOSED && ++failuresInARow >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Lets the next request be a trial, if this one was, without counting for or against the underlying service.
+     */
+    private synchronized void abandon(Admission admission) {
+        if (admission == Admission.TRIAL) {
+            state = State.OPEN;
+            retryAtNanos = System.nanoTime();
+        }
+    }
+
+    private void open() {
+        OPENED.increment();
+        state = State.OPEN;
+        failuresInARow = 0;
+        long openFor = Math.min(MAX_OPEN_TIME.toNanos(), openNanos << Math.min(timesOpened, 16));
+        timesOpened++;
+        retryAtNanos = System.nanoTime() + openFor;
+    }
+
+    /**
+     * Passes pieces of a streamed reply on until it is closed, so that a request that is given up on can't add to
+     * a reply from the fallbacks, and notes when the first text arrived.
+     */
+    private static final class Gate implements Consumer<String> {
+
+        /**
+         * Completes when the first text is passed on.
+         */
+        final CompletableFuture<Void> started = new CompletableFuture<>();
+
+        private final Consumer<String> onText;
+        private boolean open = true;
+        private long startedAtNanos;
+        private boolean passedOn;
+
+        Gate(Consumer<String> onText) {
+            this.onText = onText;
+        }
+
+        @Override
+        public void accept(String text) {
+            synchronized (this) {
+                if (!open) {
+                    return;
+                }
+                if (!passedOn && !text.isEmpty()) {
+                    passedOn = true;
+                    startedAtNanos = System.nanoTime();
+                }
+                onText.accept(text);
+            }
+            if (passedOn) {
+                started.complete(null);
+            }
+        }
+
+        /**
+         * Stops passing pieces on, unless some text has been passed on already.
+         *
+         * @return {@code true} if the gate was closed, {@code false} if text had already been passed on
+         */
+        synchronized boolean closeIfSilent() {
+            if (passedOn) {
+                return false;
+            }
+            open = false;
+            return true;
+        }
+
+        /**
+         * Stops passing pieces on.
+         */
+        synchronized void close() {
+            open = false;
+        }
+
+        /**
+         * @param otherwise what to return if no text has been passed on
+         * @return when the first text was passed on, by {@link System#nanoTime()}
+         */
+        synchronized long startedAt(long otherwise) {
+            return passedOn ? startedAtNanos : otherwise;
+        }
+    }
+
+    /**
+     * The threads that wait for the underlying service, created when they're first needed. Daemons, so that a
+     * request left to finish in the background doesn't keep the game running.
+     */
+    private static final class Calls {
+
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "llm-call-" + COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -1,13 +1,24 @@
 package game.llm;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import edu.monash.fit2099.engine.metrics.Counter;
+import edu.monash.fit2099.engine.metrics.Metrics;
+import game.jfr.LlmCallEvent;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
 /**
@@ -15,24 +26,69 @@ import org.json.JSONObject;
  * Google's Gemini API to generate text responses based on input prompts.
  * <p>
  * This class builds and sends HTTP requests to the Gemini 1.5 Flash model
- * and parses the response to return generated content.
+ * and parses the response to return generated content. Requests go through an
+ * {@link HttpTransport}, which reuses connections, retries when Gemini is busy,
+ * and gives up once a request's deadline has passed.
+ * </p>
+ * <p>
+ * {@link #streamText(String, Consumer)} uses the {@code streamGenerateContent}
+ * endpoint instead, whose URL is the {@code generateContent} one with that name
+ * swapped in, so the reply can be used while it is still being generated.
  * </p>
  *
- * <p><b>Note:</b> This implementation requires a valid Gemini API key.</p>
+ * <p><b>Note:</b> This implementation requires a valid Gemini API key. To use
+ * another server, such as a local stub, start the JVM with
+ * {@code -Dgemini.endpoint=URL} or pass the endpoint to the constructor.</p>
  *
  * @author Mohanad Al-Mansoob
  */
 public class GeminiService implements LLMService {
 
+    /**
+     * The Gemini 1.5 Flash endpoint, used unless another one is given.
+     */
+    private static final String DEFAULT_ENDPOINT =
+            "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash:generateContent";
+
+    /**
+     * The header the API key is sent in, which keeps it out of the URL.
+     */
+    private static final String API_KEY_HEADER = "x-goog-api-key";
+
+    /**
+     * Count the tokens Gemini says each prompt and reply took, which is what it charges for.
+     */
+    private static final Counter PROMPT_TOKENS = Metrics.counter("llm.tokens.prompt");
+    private static final Counter REPLY_TOKENS = Metrics.counter("llm.tokens.reply");
+
+    /**
+     * Reads a streamed reply a line at a time, or an error reply all at once.
+     */
+    private static final HttpResponse.BodyHandler<Stream<String>> EVENT_LINES = info ->
+            info.statusCode() == HttpURLConnection.HTTP_OK
+                    ? HttpResponse.BodySubscribers.ofLines(StandardCharsets.UTF_8)
+                    : HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8),
+                            String::lines);
+
     /**
      * The API key used for authenticating requests to the Gemini API.
      */
     private final String apiKey;
 
     /**
-     * The complete base URL for the Gemini model endpoint including the API key.
+     * Where requests are sent.
+     */
+    private final URI endpoint;
+
+    /**
+     * Where streamed requests are sent, as server-sent events.
      */
-    private final String baseUrl;
+    private final URI streamEndpoint;
+
+    /**
+     * Sends the requests.
+     */
+    private final HttpTransport transport;
 
     /**
      * Constructs a {@code GeminiService} instance with the given API key.
@@ -40,49 +96,154 @@ public class GeminiService implements LLMService {
      * @param apiKey the API key to access the Gemini API
      */
     public GeminiService(String apiKey) {
+        this(apiKey, URI.create(System.getProperty("gemini.endpoint", DEFAULT_ENDPOINT)), new HttpTransport());
+    }
+
+    /**
+     * Constructs a {@code GeminiService} instance that sends requests to the given endpoint.
+     *
+     * @param apiKey    the API key to access the Gemini API, or null to send none
+     * @param endpoint  the URL of the model's {@code generateContent} method
+     * @param transport sends the requests
+     */
+    public GeminiService(String apiKey, URI endpoint, HttpTransport transport) {
         this.apiKey = apiKey;
-        this.baseUrl = "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash:generateContent?key=" + apiKey;
+        this.endpoint = endpoint;
+        this.streamEndpoint = URI.create(endpoint.toString().replace(":generateContent", ":streamGenerateContent")
+                + (endpoint.getQuery() == null ? "?" : "&") + "alt=sse");
+        this.transport = transport;
     }
 
     /**
-     * Generates text by sending a prompt to the Gemini API.
+     * Generates text by sending a prompt to the Gemini API, and waits for the reply.
      *
      * @param prompt the input prompt to send to the model
-     * @return the generated text response, or an error message if the request fails
+     * @return the generated text response
+     * @throws LLMServiceException if the request fails, or the reply isn't what was expected
      */
     @Override
     public String generateText(String prompt) {
         try {
-            HttpURLConnection connection = setupConnection();
-            String requestBody = buildRequestBody(prompt);
-            sendRequest(connection, requestBody);
-            String response = readResponse(connection);
-
-            int status = connection.getResponseCode();
-            if (status != HttpURLConnection.HTTP_OK) {
-                return "[HTTP " + status + "] " + response;
+            return generateTextAsync(prompt).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof LLMServiceException cause)
+                throw cause;
+            throw new LLMServiceException("GeminiService error: " + e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * Generates text by sending a prompt to the Gemini API, without waiting for the reply.
+     *
+     * @param prompt the input prompt to send to the model
+     * @return the generated text response, or an {@link LLMServiceException} if the request fails, or the reply
+     *         isn't what was expected
+     */
+    public CompletableFuture<String> generateTextAsync(String prompt) {
+        LlmCallEvent event = new LlmCallEvent();
+        event.begin();
+        return transport.postJson(endpoint, headers(), buildRequestBody(prompt))
+                .handle((reply, error) -> {
+                    try {
+                        if (error != null) {
+                            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                    ? error.getCause() : error;
+                            throw new LLMServiceException("GeminiService error: " + cause, cause);
+                        }
+                        HttpResponse<String> response = reply.response();
+                        event.status = response.statusCode();
+                        event.attempts = reply.attempts();
+                        event.responseLength = response.body().length();
+                        if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+                            throw new LLMServiceException("[HTTP " + response.statusCode() + "] " + response.body());
+                        }
+                        String text = extractReplyText(response.body(), event);
+                        countTokens(event);
+                        return text;
+                    } catch (LLMServiceException e) {
+                        event.error = e.getMessage();
+                        throw e;
+                    } finally {
+                        if (event.shouldCommit()) {
+                            event.service = getClass();
+                            event.promptLength = prompt.length();
+                            event.commit();
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Generates text by sending a prompt to Gemini's streaming endpoint, passing each piece of the reply on as soon
+     * as it arrives, and waits for the whole reply.
+     * <p>
+     * If the request's deadline passes before the reply is finished, reading stops and the request fails.
+     * </p>
+     *
+     * @param prompt the input prompt to send to the model
+     * @param onText called with each piece of the reply, in order
+     * @return the generated text response
+     * @throws LLMServiceException if the request fails, or the reply isn't what was expected
+     */
+    @Override
+    public String streamText(String prompt, Consumer<String> onText) {
+        LlmCallEvent event = new LlmCallEvent();
+        event.begin();
+        try {
+            HttpTransport.Reply<Stream<String>> reply;
+            try {
+                reply = transport.postJson(streamEndpoint, headers(), buildRequestBody(prompt), EVENT_LINES).join();
+            } catch (CompletionException e) {
+                throw new LLMServiceException("GeminiService error: " + e.getCause(), e.getCause());
+            }
+            event.status = reply.response().statusCode();
+            event.attempts = reply.attempts();
+
+            try (Stream<String> lines = reply.response().body()) {
+                if (reply.response().statusCode() != HttpURLConnection.HTTP_OK) {
+                    throw new LLMServiceException("[HTTP " + reply.response().statusCode() + "] "
+                            + lines.collect(Collectors.joining("\n")));
+                }
+                // Closing the lines makes a read that is waiting for the next one fail
+                CompletableFuture<Void> deadline = CompletableFuture.runAsync(lines::close,
+                        CompletableFuture.delayedExecutor(Math.max(0, reply.timeLeft().toNanos()), TimeUnit.NANOSECONDS));
+                StringBuilder text = new StringBuilder();
+                try {
+                    readEvents(lines.iterator(), data -> {
+                        String piece = extractPiece(data, event);
+                        text.append(piece);
+                        onText.accept(piece);
+                    });
+                } catch (UncheckedIOException e) {
+                    throw new LLMServiceException(deadline.isDone()
+                            ? "GeminiService error: the reply wasn't finished before the deadline"
+                            : "GeminiService error: " + e.getCause(), e);
+                } finally {
+                    deadline.cancel(false);
+                }
+                event.responseLength = text.length();
+                countTokens(event);
+                return stripFences(text.toString());
+            }
+        } catch (LLMServiceException e) {
+            event.error = e.getMessage();
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.service = getClass();
+                event.promptLength = prompt.length();
+                event.commit();
             }
-            return extractReplyText(response);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "[GeminiService error: " + e.getMessage() + "]";
         }
     }
 
     /**
-     * Sets up the HTTP connection to the Gemini API.
+     * The headers sent with every request.
      *
-     * @return the configured {@code HttpURLConnection}
-     * @throws Exception if the connection cannot be established
-     */
-    private HttpURLConnection setupConnection() throws Exception {
-        URL url = new URL(baseUrl);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("POST");
-        connection.setRequestProperty("Content-Type", "application/json; utf-8");
-        connection.setRequestProperty("Accept", "application/json");
-        connection.setDoOutput(true);
-        return connection;
+     * @return the API key header, or no headers if there is no API key
+     */
+    private Map<String, String> headers() {
+        return apiKey == null ? Map.of() : Map.of(API_KEY_HEADER, apiKey);
     }
 
     /**
@@ -98,65 +259,116 @@ public class GeminiService implements LLMService {
         return outer.toString();
     }
 
-    /**
-     * Sends the request body through the given HTTP connection.
-     *
-     * @param connection the open connection to the Gemini API
-     * @param body the JSON string to send as the request body
-     * @throws Exception if the request fails to send
-     */
-    private void sendRequest(HttpURLConnection connection, String body) throws Exception {
-        try (OutputStream os = connection.getOutputStream()) {
-            byte[] input = body.getBytes(StandardCharsets.UTF_8);
-            os.write(input, 0, input.length);
-        }
-    }
-
-    /**
-     * Reads the response from the Gemini API.
-     *
-     * @param connection the HTTP connection with a pending response
-     * @return the response body as a string
-     * @throws Exception if the response cannot be read
-     */
-    private String readResponse(HttpURLConnection connection) throws Exception {
-        int status = connection.getResponseCode();
-        BufferedReader reader = new BufferedReader(new InputStreamReader(
-                (status == HttpURLConnection.HTTP_OK ? connection.getInputStream() : connection.getErrorStream()),
-                StandardCharsets.UTF_8
-        ));
-
-        StringBuilder responseBuilder = new StringBuilder();
-        String line;
-        while ((line = reader.readLine()) != null) {
-            responseBuilder.append(line.trim());
-        }
-        reader.close();
-        return responseBuilder.toString();
-    }
-
     /**
      * Extracts the reply text from the JSON response returned by the Gemini API.
      *
      * @param response the raw JSON response as a string
-     * @return the extracted reply text, or a fallback message if extraction fails
+     * @param event    where to note the token counts, if the response has them
+     * @return the extracted reply text
+     * @throws LLMServiceException if the response doesn't contain a reply
      */
-    private String extractReplyText(String response) {
+    private String extractReplyText(String response, LlmCallEvent event) {
         try {
             JSONObject json = new JSONObject(response);
+            noteUsage(json, event);
             String reply = json.getJSONArray("candidates")
                     .getJSONObject(0)
                     .getJSONObject("content")
                     .getJSONArray("parts")
                     .getJSONObject(0)
                     .getString("text");
-            return reply
-                    .replaceAll("^\\s*[`']{3}json\\s*", "")
-                    .replaceAll("[`']{3}\\s*$", "")
-                    .trim();
+            return stripFences(reply);
         } catch (Exception e) {
-            e.printStackTrace();
-            return "[Failed to extract reply text]";
+            throw new LLMServiceException("Failed to extract reply text", e);
         }
     }
+
+    /**
+     * Reads server-sent events, passing on the data of each one. Only {@code data} fields are used.
+     *
+     * @param lines  the lines of the stream
+     * @param onData called with the data of each event
+     */
+    private static void readEvents(Iterator<String> lines, Consumer<String> onData) {
+        StringBuilder data = new StringBuilder();
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (line.isEmpty()) {
+                if (data.length() > 0) {
+                    onData.accept(data.toString());
+                    data.setLength(0);
+                }
+            } else if (line.startsWith("data:")) {
+                if (data.length() > 0) {
+                    data.append('\n');
+                }
+                data.append(line, line.startsWith("data: ") ? 6 : 5, line.length());
+            }
+        }
+        if (data.length() > 0) {
+            onData.accept(data.toString());
+        }
+    }
+
+    /**
+     * Extracts the next piece of text from one event of a streamed reply.
+     *
+     * @param data  the event's JSON
+     * @param event where to note the token counts so far, if the event has them
+     * @return the piece of text, which is empty if the event doesn't carry any (e.g. the last one, with usage)
+     * @throws LLMServiceException if the event isn't JSON, or reports an error
+     */
+    private String extractPiece(String data, LlmCallEvent event) {
+        try {
+            JSONObject json = new JSONObject(data);
+            if (json.has("error")) {
+                throw new LLMServiceException("Gemini error: " + json.get("error"));
+            }
+            noteUsage(json, event);
+            JSONArray candidates = json.optJSONArray("candidates");
+            JSONObject content = candidates == null ? null : candidates.getJSONObject(0).optJSONObject("content");
+            JSONArray parts = content == null ? null : content.optJSONArray("parts");
+            return parts == null || parts.isEmpty() ? "" : parts.getJSONObject(0).optString("text", "");
+        } catch (JSONException e) {
+            throw new LLMServiceException("Failed to extract reply text", e);
+        }
+    }
+
+    /**
+     * Notes the token counts in a response's {@code usageMetadata}, if it has any. In a streamed reply, each event
+     * has the counts so far, so the last one has the totals.
+     *
+     * @param json  a response, or one event of a streamed reply
+     * @param event where to note the counts
+     */
+    private static void noteUsage(JSONObject json, LlmCallEvent event) {
+        JSONObject usage = json.optJSONObject("usageMetadata");
+        if (usage != null) {
+            event.promptTokens = usage.optInt("promptTokenCount", event.promptTokens);
+            event.replyTokens = usage.optInt("candidatesTokenCount", event.replyTokens);
+        }
+    }
+
+    /**
+     * Adds a finished request's token counts to the totals.
+     *
+     * @param event where the counts were noted
+     */
+    private static void countTokens(LlmCallEvent event) {
+        PROMPT_TOKENS.add(event.promptTokens);
+        REPLY_TOKENS.add(event.replyTokens);
+    }
+
+    /**
+     * Removes the Markdown code fence the model tends to wrap JSON in.
+     *
+     * @param reply the reply text
+     * @return the reply text without the fence
+     */
+    private static String stripFences(String reply) {
+        return reply
+                .replaceAll("^\\s*[`']{3}json\\s*", "")
+                .replaceAll("[`']{3}\\s*$", "")
+                .trim();
+    }
 }
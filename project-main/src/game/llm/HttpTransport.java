@@ -0,0 +1,185 @@
+package game.llm;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Sends requests to a language model's HTTP API, for services such as {@link GeminiService}.
+ * <p>
+ * Every transport shares one {@link HttpClient} unless given its own, so connections are kept open and reused
+ * between requests, over HTTP/2 where the server supports it. Each request has a deadline: a single attempt may
+ * take at most the attempt timeout, and all attempts together at most the deadline, after which the request fails
+ * with an {@link HttpTimeoutException} rather than leaving an NPC waiting forever.
+ * <p>
+ * A request that fails because of the network, or is answered with 429 (Too Many Requests) or a 5xx status, is
+ * tried again after a random delay that grows with each attempt, or after the delay the server asks for in its
+ * {@code Retry-After} header if that is longer. Other statuses are returned as they are.
+ * <p>
+ * The deadline only covers waiting for the reply to start. A caller that reads a streamed reply a piece at a time
+ * can use {@link Reply#timeLeft()} to stop reading when the deadline passes.
+ */
+public class HttpTransport {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final int DEFAULT_MAX_ATTEMPTS = 4;
+    private static final Duration DEFAULT_ATTEMPT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(60);
+    private static final Duration DEFAULT_BACKOFF = Duration.ofMillis(250);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(8);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * The client shared by every transport that isn't given one, created when first used.
+     */
+    private static final class SharedClient {
+        static final HttpClient CLIENT = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    private final HttpClient client;
+    private final int maxAttempts;
+    private final Duration attemptTimeout;
+    private final Duration deadline;
+    private final Duration backoff;
+
+    /**
+     * Constructs an {@code HttpTransport} that uses the shared client, and tries each request up to 4 times, for
+     * up to 30 seconds each and a minute in all.
+     */
+    public HttpTransport() {
+        this(SharedClient.CLIENT, DEFAULT_MAX_ATTEMPTS, DEFAULT_ATTEMPT_TIMEOUT, DEFAULT_DEADLINE, DEFAULT_BACKOFF);
+    }
+
+    /**
+     * Constructs an {@code HttpTransport}.
+     *
+     * @param client         the client to send requests with
+     * @param maxAttempts    how many times to try a request before giving up
+     * @param attemptTimeout how long to wait for the reply to one attempt
+     * @param deadline       how long to keep trying a request, counting every attempt and the delays between them
+     * @param backoff        the longest delay before the second attempt; it doubles for each attempt after that
+     */
+    public HttpTransport(HttpClient client, int maxAttempts, Duration attemptTimeout, Duration deadline,
+                         Duration backoff) {
+        if (maxAttempts <= 0 || attemptTimeout.isNegative() || attemptTimeout.isZero()
+                || deadline.isNegative() || deadline.isZero() || backoff.isNegative())
+            throw new IllegalArgumentException("Attempts and timeouts must be positive");
+        this.client = client;
+        this.maxAttempts = maxAttempts;
+        this.attemptTimeout = attemptTimeout;
+        this.deadline = deadline;
+        this.backoff = backoff;
+    }
+
+    /**
+     * POSTs a JSON body, without waiting for the reply.
+     *
+     * @param uri     where to send it
+     * @param headers extra headers to send with it
+     * @param body    the JSON to send
+     * @return the reply to the last attempt, or an exception if none was answered before the deadline
+     */
+    public CompletableFuture<Reply<String>> postJson(URI uri, Map<String, String> headers, String body) {
+        return postJson(uri, headers, body, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * POSTs a JSON body, without waiting for the reply, and reads the reply with the given handler.
+     * <p>
+     * The replies to attempts that are tried again are thrown away, so the handler should read the whole body of
+     * an unsuccessful reply rather than leave it to be read later.
+     *
+     * @param uri     where to send it
+     * @param headers extra headers to send with it
+     * @param body    the JSON to send
+     * @param handler reads the body of the reply
+     * @param <T>     the type the body is read into
+     * @return the reply to the last attempt, or an exception if none was answered before the deadline
+     */
+    public <T> CompletableFuture<Reply<T>> postJson(URI uri, Map<String, String> headers, String body,
+                                                    HttpResponse.BodyHandler<T> handler) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        headers.forEach(builder::header);
+        return attempt(builder, handler, 1, System.nanoTime() + deadline.toNanos());
+    }
+
+    private <T> CompletableFuture<Reply<T>> attempt(HttpRequest.Builder builder, HttpResponse.BodyHandler<T> handler,
+                                                    int attempt, long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0)
+            return CompletableFuture.failedFuture(new HttpTimeoutException("Deadline passed before attempt " + attempt));
+        HttpRequest request = builder.copy().timeout(Duration.ofNanos(Math.min(remaining, attemptTimeout.toNanos()))).build();
+
+        return client.sendAsync(request, handler)
+                .handle((response, error) -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    boolean retry = cause == null ? isRetryable(response.statusCode()) : cause instanceof IOException;
+                    long delay = retry ? delayNanos(attempt, response) : 0L;
+                    if (!retry || attempt >= maxAttempts || System.nanoTime() + delay >= deadlineNanos) {
+                        return cause == null ? CompletableFuture.completedFuture(new Reply<T>(response, attempt, deadlineNanos))
+                                : CompletableFuture.<Reply<T>>failedFuture(cause);
+                    }
+                    return CompletableFuture.runAsync(() -> { },
+                                    CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS))
+                            .thenCompose(ignored -> attempt(builder, handler, attempt + 1, deadlineNanos));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == TOO_MANY_REQUESTS || status >= 500;
+    }
+
+    /**
+     * How long to wait before trying again: a random time up to the backoff for this attempt ("full jitter"), so
+     * that NPCs that failed together don't all try again together; or what the server asked for, if that's longer.
+     */
+    private long delayNanos(int attempt, HttpResponse<?> response) {
+        long ceiling = Math.min(MAX_BACKOFF.toNanos(), backoff.toNanos() << Math.min(attempt - 1, 20));
+        long delay = ceiling == 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (response != null) {
+            String retryAfter = response.headers().firstValue("Retry-After").orElse(null);
+            if (retryAfter != null && retryAfter.matches("\\d{1,6}")) // Seconds; an HTTP date is ignored
+                delay = Math.max(delay, TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter)));
+        }
+        return delay;
+    }
+
+    /**
+     * The reply to a request.
+     *
+     * @param response      the reply to the last attempt
+     * @param attempts      how many attempts were made
+     * @param deadlineNanos when the request's deadline passes, by {@link System#nanoTime()}
+     * @param <T>           the type the body was read into
+     */
+    public record Reply<T>(HttpResponse<T> response, int attempts, long deadlineNanos) {
+
+        /**
+         * @return how long is left until the request's deadline passes, which may be negative
+         */
+        public Duration timeLeft() {
+            return Duration.ofNanos(deadlineNanos - System.nanoTime());
+        }
+    }
+}
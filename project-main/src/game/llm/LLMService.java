@@ -1,5 +1,7 @@
 package game.llm;
 
+import java.util.function.Consumer;
+
 /**
  * An interface for integrating a Large Language Model (LLM) service.
  * <p>
@@ -25,7 +27,40 @@ public interface LLMService {
      *
      * @param prompt the input prompt to send to the language model
      * @return the generated text response from the model
+     * @throws LLMServiceException if the model can't be reached or doesn't produce a reply
      */
     String generateText(String prompt);
 
+    /**
+     * Generates a text response based on the provided prompt, passing it on a piece at a time as it is generated,
+     * so that the start of it can be used before the rest is ready.
+     * <p>
+     * By default the whole response is passed on at once, when it is ready.
+     * </p>
+     *
+     * @param prompt the input prompt to send to the language model
+     * @param onText called with each piece of the response, in order
+     * @return the whole response, which is the pieces put together, perhaps without a Markdown code fence
+     * @throws LLMServiceException if the model can't be reached or doesn't produce a reply
+     */
+    default String streamText(String prompt, Consumer<String> onText) {
+        String text = generateText(prompt);
+        onText.accept(text);
+        return text;
+    }
+
+    /**
+     * Returns a reply to the prompt that this service already has to hand, such as one it remembers from an
+     * earlier request, without generating a new one.
+     * <p>
+     * By default there never is one.
+     * </p>
+     *
+     * @param prompt the input prompt
+     * @return the reply, or null if there isn't one to hand
+     */
+    default String cachedText(String prompt) {
+        return null;
+    }
+
 }
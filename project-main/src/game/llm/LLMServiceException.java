@@ -0,0 +1,29 @@
+package game.llm;
+
+/**
+ * Thrown when an {@link LLMService} can't produce a reply, e.g. because the model couldn't be reached or answered
+ * with an error.
+ */
+public class LLMServiceException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new {@code LLMServiceException}.
+     *
+     * @param message what went wrong
+     */
+    public LLMServiceException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new {@code LLMServiceException} caused by another exception.
+     *
+     * @param message what went wrong
+     * @param cause   the underlying cause
+     */
+    public LLMServiceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,322 @@
+package game.llm;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * An {@link LLMService} that makes up its replies locally, for playing, testing and load-testing the game without
+ * a network or an API key.
+ * <p>
+ * It recognises the prompts of the Narrator, Shabiri and the Explorer by the names in them, and replies with
+ * dialogue JSON of the shape each one asks for, put together from stock phrases. Any other prompt gets a
+ * one-round dialogue. To behave more like a real model, it can be made to wait before replying, to fail some
+ * requests, and to return broken JSON for some others.
+ * </p>
+ *
+ * <p><b>Example usage:</b>
+ * <pre>{@code
+ * LLMService llm = new OfflineLLMService(42)
+ *         .withLatency(OfflineLLMService.Latency.logNormal(Duration.ofMillis(800), 0.5))
+ *         .withErrorRate(0.02)
+ *         .withMalformedRate(0.05);
+ * }</pre>
+ * </p>
+ * <p>
+ * The random choices come from this service's own generator, never from the game's, so using it doesn't change
+ * what happens in a seeded game. It can be used from several threads at once.
+ * </p>
+ */
+public class OfflineLLMService implements LLMService {
+
+    /**
+     * How many characters {@link #streamText(String, Consumer)} passes on at a time.
+     */
+    private static final int CHUNK_CHARS = 24;
+
+    private static final List<String> SUBJECTS = List.of(
+            "the Inheritree", "the blighted valley", "a Tarnished who lost their name", "the Bed of Chaos",
+            "the mists of Limveld", "a spirit goat that would not stray", "the last Bloodrose", "an omen sheep");
+    private static final List<String> PLACES = List.of(
+            "beneath the roots", "at the edge of the blight", "in the ruined chapel", "by the teleportation circle",
+            "under a sky of ash", "where the soil still remembers rain");
+    private static final List<String> EVENTS = List.of(
+            "a seed was planted that should never have grown", "the night lasted three days",
+            "a merchant sold a talisman to the wrong buyer", "the golden beetles fled all at once",
+            "the branches began to whisper", "a farmer refused to leave");
+    private static final List<String> QUESTIONS = List.of(
+            "What do you see when you look at the stars?", "Is anything in this valley truly alive?",
+            "Why do the dead walk here?", "What is it you are listening for?", "Do we choose our own paths?");
+    private static final List<String> RIDDLES = List.of(
+            "The stars look back, and they are counting.", "Alive? Everything here is waiting, which is worse.",
+            "They walk because no one told them to stop.", "A song, sung under the soil, older than the roots.",
+            "Paths choose walkers, as rivers choose stones.");
+    private static final List<String> FOLLOW_UPS = List.of(
+            "That is unsettling... but what does it mean for me?", "Then nothing we do matters?",
+            "I think you are afraid of something.");
+    private static final List<String> FAREWELLS = List.of(
+            "I will remember this.", "I should go before the night falls.", "Perhaps we will speak again.");
+
+    private final Random random;
+    private volatile Latency latency = Latency.none();
+    private volatile Duration chunkDelay = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile double malformedRate;
+
+    /**
+     * Constructs an {@code OfflineLLMService} that replies straight away, and always correctly.
+     */
+    public OfflineLLMService() {
+        this.random = new Random();
+    }
+
+    /**
+     * Constructs an {@code OfflineLLMService} that replies straight away, and always correctly, making the same
+     * choices every time for the same seed and order of requests.
+     *
+     * @param seed seeds the random choices
+     */
+    public OfflineLLMService(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Sets how long to wait before replying, or before the first piece of a streamed reply.
+     *
+     * @param latency the time to wait
+     * @return this service
+     */
+    public OfflineLLMService withLatency(Latency latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Sets how long to wait between the pieces of a streamed reply.
+     *
+     * @param chunkDelay the time between pieces
+     * @return this service
+     */
+    public OfflineLLMService withChunkDelay(Duration chunkDelay) {
+        this.chunkDelay = chunkDelay;
+        return this;
+    }
+
+    /**
+     * Sets how often a request fails with an {@link LLMServiceException}, after waiting as usual.
+     *
+     * @param errorRate the probability of failing, from 0 to 1
+     * @return this service
+     */
+    public OfflineLLMService withErrorRate(double errorRate) {
+        this.errorRate = checkRate(errorRate);
+        return this;
+    }
+
+    /**
+     * Sets how often a reply is broken: cut off part-way through, missing its responses, or wrapped in chatter.
+     *
+     * @param malformedRate the probability of a broken reply, from 0 to 1
+     * @return this service
+     */
+    public OfflineLLMService withMalformedRate(double malformedRate) {
+        this.malformedRate = checkRate(malformedRate);
+        return this;
+    }
+
+    /**
+     * Makes up a reply to a prompt, after waiting for the latency.
+     *
+     * @param prompt the input prompt to send to the language model
+     * @return the generated text response from the model
+     * @throws LLMServiceException if this request was chosen to fail, or the thread was interrupted while waiting
+     */
+    @Override
+    public String generateText(String prompt) {
+        pause(latency.nextNanos(random));
+        return reply(prompt);
+    }
+
+    /**
+     * Makes up a reply to a prompt, and passes it on a few characters at a time, after waiting for the latency and
+     * then the chunk delay between pieces.
+     *
+     * @param prompt the input prompt to send to the language model
+     * @param onText called with each piece of the response, in order
+     * @return the whole response
+     * @throws LLMServiceException if this request was chosen to fail, or the thread was interrupted while waiting
+     */
+    @Override
+    public String streamText(String prompt, Consumer<String> onText) {
+        pause(latency.nextNanos(random));
+        String text = reply(prompt);
+        for (int start = 0; start < text.length(); start += CHUNK_CHARS) {
+            if (start > 0) {
+                pause(chunkDelay.toNanos());
+            }
+            onText.accept(text.substring(start, Math.min(text.length(), start + CHUNK_CHARS)));
+        }
+        return text;
+    }
+
+    private String reply(String prompt) {
+        if (random.nextDouble() < errorRate) {
+            throw new LLMServiceException("Offline LLM: injected failure");
+        }
+        JSONObject dialogue;
+        if (prompt.contains("The Explorer")) {
+            dialogue = explorer(prompt);
+        } else if (prompt.contains("Shabiri")) {
+            dialogue = shabiri();
+        } else if (prompt.contains("The Narrator")) {
+            dialogue = narrator();
+        } else {
+            dialogue = dialogue(rounds(List.of("Hello?")), rounds(List.of("Greetings, traveller. " + pick(EVENTS) + ".")));
+        }
+        String json = dialogue.toString();
+        return random.nextDouble() < malformedRate ? malform(json) : json;
+    }
+
+    private JSONObject narrator() {
+        String subject = pick(SUBJECTS);
+        return dialogue(
+                rounds(List.of("Tell me a story"), List.of("Continue", "Decline"), List.of("Continue", "Decline"),
+                        List.of("Finish", "Decline")),
+                rounds(List.of("Would you like to hear a story about " + subject + "?"),
+                        List.of("Long ago, " + pick(PLACES) + ", " + pick(EVENTS) + ".", "Another time, then."),
+                        List.of("They say " + subject + " was there when " + pick(EVENTS) + ".", "As you wish."),
+                        List.of("And so, " + pick(PLACES) + ", it waits still.", "The rest is for another day.")));
+    }
+
+    private JSONObject shabiri() {
+        return dialogue(
+                rounds(List.of("Greetings, Shabiri. " + QUESTIONS.get(0), "Hello, Shabiri. " + QUESTIONS.get(1),
+                                "Shabiri, may I ask... " + pick(QUESTIONS)),
+                        FOLLOW_UPS, FAREWELLS),
+                rounds(List.of(RIDDLES.get(0), RIDDLES.get(1), pick(RIDDLES)),
+                        List.of(pick(RIDDLES), "Meaning is a lantern. You carry it, or you do not.",
+                                "Fear? No. Only patience, " + pick(PLACES) + "."),
+                        List.of("Remember, then, " + pick(PLACES) + ".", "Go. The night is listening.",
+                                "We will. We always do.")));
+    }
+
+    private JSONObject explorer(String prompt) {
+        int asked = prompt.lastIndexOf("Player question:");
+        String question = asked < 0 ? "" : prompt.substring(asked + "Player question:".length()).strip();
+        String answer = (question.isEmpty() ? "Ah, a silent question." : "You ask: \"" + question + "\". ")
+                + "I have wandered " + pick(PLACES) + ", and I learned that " + pick(EVENTS) + ". "
+                + "Some say " + pick(SUBJECTS) + " knows more.";
+        return dialogue(rounds(List.of("Ask a question")), rounds(List.of(answer)));
+    }
+
+    private String malform(String json) {
+        switch (random.nextInt(3)) {
+            case 0:
+                return json.substring(0, random.nextInt(json.length()));
+            case 1:
+                JSONObject broken = new JSONObject(json);
+                broken.remove("responses");
+                return broken.toString();
+            default:
+                return "Certainly! Here is the dialogue you asked for:\n" + json;
+        }
+    }
+
+    private String pick(List<String> choices) {
+        return choices.get(random.nextInt(choices.size()));
+    }
+
+    @SafeVarargs
+    private static JSONArray rounds(List<String>... rounds) {
+        JSONArray array = new JSONArray();
+        for (List<String> round : rounds) {
+            array.put(new JSONArray(round));
+        }
+        return array;
+    }
+
+    private static JSONObject dialogue(JSONArray options, JSONArray responses) {
+        return new JSONObject().put("options", options).put("responses", responses);
+    }
+
+    private static double checkRate(double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Rate must be from 0 to 1: " + rate);
+        }
+        return rate;
+    }
+
+    private static void pause(long nanos) {
+        long end = System.nanoTime() + nanos;
+        for (long left = nanos; left > 0; left = end - System.nanoTime()) {
+            LockSupport.parkNanos(left);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new LLMServiceException("Offline LLM: interrupted while waiting to reply");
+            }
+        }
+    }
+
+    /**
+     * How long an {@link OfflineLLMService} takes to reply.
+     */
+    @FunctionalInterface
+    public interface Latency {
+
+        /**
+         * Chooses how long to take over the next reply.
+         *
+         * @param random the source of randomness to use
+         * @return the time to wait, in nanoseconds
+         */
+        long nextNanos(Random random);
+
+        /**
+         * @return a latency of nothing at all
+         */
+        static Latency none() {
+            return random -> 0L;
+        }
+
+        /**
+         * @param latency how long every reply takes
+         * @return a latency that is always the same
+         */
+        static Latency fixed(Duration latency) {
+            long nanos = latency.toNanos();
+            return random -> nanos;
+        }
+
+        /**
+         * @param min the shortest time a reply takes
+         * @param max the longest time a reply takes
+         * @return a latency spread evenly between the two
+         */
+        static Latency uniform(Duration min, Duration max) {
+            long low = min.toNanos();
+            long spread = max.toNanos() - low;
+            if (low < 0 || spread < 0) {
+                throw new IllegalArgumentException("Need 0 <= min <= max");
+            }
+            return random -> low + (long) (random.nextDouble() * spread);
+        }
+
+        /**
+         * A latency with a long tail, like a real network service: most replies take about the median, and a few
+         * take many times as long.
+         *
+         * @param median half of all replies are quicker than this
+         * @param sigma  how spread out the latency is; 0.5 makes about 1 reply in 100 take three times the median
+         * @return a log-normally distributed latency
+         */
+        static Latency logNormal(Duration median, double sigma) {
+            double mu = Math.log(Math.max(1, median.toNanos()));
+            return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+        }
+    }
+}
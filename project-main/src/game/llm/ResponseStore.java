@@ -0,0 +1,324 @@
+package game.llm;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The on-disk half of {@link CachingLLMService}: replies kept in a directory, keyed by the SHA-256 digest of their
+ * prompt, so that they survive restarts.
+ * <p>
+ * Replies are appended to a data file and never changed. A fixed-size hash table in a memory-mapped index file
+ * says where in the data file the reply to each prompt is, and when it expires. When the data file outgrows its
+ * limit, or the index gets too full, the store is compacted: expired replies are dropped, then the oldest ones,
+ * until it is half full, and the survivors are copied to a new data file.
+ * <p>
+ * Every record in the data file carries the whole digest, so an index entry that doesn't match its record (e.g.
+ * after a crash part-way through a write) just reads as a miss. If the index is missing or doesn't agree with the
+ * data file, it is rebuilt from the data file. Only one process should use a directory at a time.
+ */
+class ResponseStore implements Closeable {
+
+    private static final int MAGIC = 0x454C4C4D; // "ELLM"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = 32;
+    private static final int RECORD_HEADER_BYTES = 32 + 8 + 4;
+    private static final double MAX_LOAD = 0.7;
+
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_SLOTS = 8;
+    private static final int HEADER_ENTRIES = 12;
+    private static final int HEADER_DATA_END = 16;
+
+    private static final int SLOT_KEY = 0;
+    private static final int SLOT_OFFSET = 8;
+    private static final int SLOT_EXPIRES = 16;
+    private static final int SLOT_LENGTH = 24;
+
+    private final Path dataPath;
+    private final long maxDataBytes;
+    private final int slots;
+    private final FileChannel indexChannel;
+    private final MappedByteBuffer index;
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel data;
+    private int entries;
+    private long dataEnd;
+
+    /**
+     * Opens the store in a directory, creating it if necessary.
+     *
+     * @param directory    where the index and data files are kept
+     * @param maxDataBytes how big the data file can get before it is compacted
+     * @param slots        how many replies the index can hold; it is compacted when it is 70% full
+     * @throws IOException if the files can't be opened
+     */
+    ResponseStore(Path directory, long maxDataBytes, int slots) throws IOException {
+        if (maxDataBytes <= 0 || slots <= 0)
+            throw new IllegalArgumentException("Store size must be positive");
+        Files.createDirectories(directory);
+        this.dataPath = directory.resolve("responses.dat");
+        this.maxDataBytes = maxDataBytes;
+        this.slots = slots;
+        this.data = openData(dataPath);
+        this.indexChannel = FileChannel.open(directory.resolve("responses.idx"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) slots * SLOT_BYTES);
+
+        if (index.getInt(HEADER_MAGIC) == MAGIC && index.getInt(HEADER_VERSION) == VERSION
+                && index.getInt(HEADER_SLOTS) == slots && index.getLong(HEADER_DATA_END) == data.size()) {
+            entries = index.getInt(HEADER_ENTRIES);
+            dataEnd = data.size();
+        } else {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Looks up the reply to a prompt.
+     *
+     * @param digest the SHA-256 digest of the prompt
+     * @param now    the current time, in milliseconds since the epoch
+     * @return the reply and when it expires, or null if there isn't one or it has expired
+     * @throws IOException if the data file can't be read
+     */
+    Stored get(byte[] digest, long now) throws IOException {
+        lock.lock();
+        try {
+            int slot = find(digest);
+            if (slotLength(slot) == 0 || index.getLong(slotPosition(slot) + SLOT_EXPIRES) <= now)
+                return null;
+            return readRecord(index.getLong(slotPosition(slot) + SLOT_OFFSET), digest);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores the reply to a prompt, replacing any earlier one.
+     *
+     * @param digest    the SHA-256 digest of the prompt
+     * @param response  the reply
+     * @param expiresAt when the reply should stop being used, in milliseconds since the epoch
+     * @param now       the current time, in milliseconds since the epoch
+     * @throws IOException if the files can't be written
+     */
+    void put(byte[] digest, String response, long expiresAt, long now) throws IOException {
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        long recordBytes = RECORD_HEADER_BYTES + (long) bytes.length;
+        if (recordBytes > maxDataBytes / 2)
+            return; // Never worth keeping; it would push everything else out
+
+        lock.lock();
+        try {
+            if (dataEnd + recordBytes > maxDataBytes || entries + 1 > slots * MAX_LOAD)
+                compact(now);
+
+            long offset = dataEnd;
+            writeRecord(data, offset, digest, expiresAt, bytes);
+            dataEnd += recordBytes;
+
+            int slot = find(digest);
+            if (slotLength(slot) == 0)
+                entries++;
+            setSlot(slot, key(digest), offset, expiresAt, (int) recordBytes);
+            writeHeader();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the index back to disk and closes the files.
+     *
+     * @throws IOException if the files can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            index.force();
+            indexChannel.close();
+            data.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finds the slot for a digest: the one holding it, or else the empty slot where it would go.
+     *
+     * @return the slot
+     */
+    private int find(byte[] digest) {
+        long key = key(digest);
+        int slot = (int) Math.floorMod(key, (long) slots);
+        while (slotLength(slot) != 0 && index.getLong(slotPosition(slot) + SLOT_KEY) != key)
+            slot = (slot + 1) % slots;
+        return slot;
+    }
+
+    private Stored readRecord(long offset, byte[] digest) throws IOException {
+        if (offset < 0 || offset + RECORD_HEADER_BYTES > dataEnd)
+            return null;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        readFully(header, offset);
+        byte[] recorded = new byte[32];
+        header.get(recorded);
+        long expiresAt = header.getLong();
+        int length = header.getInt();
+        if (!Arrays.equals(recorded, digest) || length < 0 || offset + RECORD_HEADER_BYTES + length > dataEnd)
+            return null;
+        ByteBuffer body = ByteBuffer.allocate(length);
+        readFully(body, offset + RECORD_HEADER_BYTES);
+        return new Stored(new String(body.array(), StandardCharsets.UTF_8), expiresAt);
+    }
+
+    private static void writeRecord(FileChannel channel, long offset, byte[] digest, long expiresAt, byte[] bytes)
+            throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + bytes.length);
+        record.put(digest).putLong(expiresAt).putInt(bytes.length).put(bytes).flip();
+        while (record.hasRemaining())
+            offset += channel.write(record, offset);
+    }
+
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = data.read(buffer, offset + buffer.position());
+            if (read < 0)
+                throw new IOException("Unexpected end of " + dataPath);
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Drops expired replies, then the ones that expire soonest, until the store is no more than half full, and
+     * copies the rest to a new data file.
+     */
+    private void compact(long now) throws IOException {
+        List<long[]> live = new ArrayList<long[]>(); // {offset, expiresAt, recordBytes}
+        for (int slot = 0; slot < slots; slot++) {
+            int length = slotLength(slot);
+            long expiresAt = index.getLong(slotPosition(slot) + SLOT_EXPIRES);
+            if (length != 0 && expiresAt > now)
+                live.add(new long[] {index.getLong(slotPosition(slot) + SLOT_OFFSET), expiresAt, length});
+        }
+        live.sort(Comparator.comparingLong((long[] entry) -> entry[1]).reversed());
+
+        Path compacted = dataPath.resolveSibling(dataPath.getFileName() + ".tmp");
+        Files.deleteIfExists(compacted);
+        clearIndex();
+        long written = 0;
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            for (long[] entry : live) {
+                if (written + entry[2] > maxDataBytes / 2 || entries + 1 > slots * MAX_LOAD / 2)
+                    break;
+                ByteBuffer record = ByteBuffer.allocate((int) entry[2]);
+                readFully(record, entry[0]);
+                byte[] digest = new byte[32];
+                record.get(digest).rewind();
+                while (record.hasRemaining())
+                    target.write(record, written + record.position());
+                setSlot(find(digest), key(digest), written, entry[1], (int) entry[2]);
+                entries++;
+                written += entry[2];
+            }
+            target.force(false);
+        }
+        data.close();
+        Files.move(compacted, dataPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        data = openData(dataPath);
+        dataEnd = written;
+        writeHeader();
+    }
+
+    /**
+     * Reads the data file from the start, indexing every complete record. Anything after the last complete
+     * record is cut off.
+     */
+    private void rebuildIndex() throws IOException {
+        clearIndex();
+        long size = data.size();
+        long offset = 0;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        while (offset + RECORD_HEADER_BYTES <= size) {
+            header.clear();
+            readFully(header, offset);
+            byte[] digest = new byte[32];
+            header.get(digest);
+            long expiresAt = header.getLong();
+            int length = header.getInt();
+            if (length < 0 || offset + RECORD_HEADER_BYTES + length > size || entries + 1 > slots * MAX_LOAD)
+                break;
+            int slot = find(digest);
+            if (slotLength(slot) == 0)
+                entries++;
+            setSlot(slot, key(digest), offset, expiresAt, RECORD_HEADER_BYTES + length);
+            offset += RECORD_HEADER_BYTES + length;
+        }
+        data.truncate(offset);
+        dataEnd = offset;
+        writeHeader();
+    }
+
+    private void clearIndex() {
+        for (int position = 0; position < index.capacity(); position += 8)
+            index.putLong(position, 0L);
+        entries = 0;
+    }
+
+    private void writeHeader() {
+        index.putInt(HEADER_MAGIC, MAGIC);
+        index.putInt(HEADER_VERSION, VERSION);
+        index.putInt(HEADER_SLOTS, slots);
+        index.putInt(HEADER_ENTRIES, entries);
+        index.putLong(HEADER_DATA_END, dataEnd);
+    }
+
+    private void setSlot(int slot, long key, long offset, long expiresAt, int recordBytes) {
+        int position = slotPosition(slot);
+        index.putLong(position + SLOT_KEY, key);
+        index.putLong(position + SLOT_OFFSET, offset);
+        index.putLong(position + SLOT_EXPIRES, expiresAt);
+        index.putInt(position + SLOT_LENGTH, recordBytes);
+    }
+
+    private int slotLength(int slot) {
+        return index.getInt(slotPosition(slot) + SLOT_LENGTH);
+    }
+
+    private static int slotPosition(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    private static long key(byte[] digest) {
+        return ByteBuffer.wrap(digest, 0, 8).getLong();
+    }
+
+    private static FileChannel openData(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * A reply, and when to stop using it.
+     *
+     * @param response  the reply
+     * @param expiresAt when it expires, in milliseconds since the epoch
+     */
+    record Stored(String response, long expiresAt) {
+    }
+}
@@ -1,5 +1,7 @@
 package game.timemanagement;
 
+import edu.monash.fit2099.engine.positions.TickPolicy;
+
 /**
  * Enum to represent time phases in the game: DAY and NIGHT.
  *
@@ -7,5 +9,20 @@ package game.timemanagement;
  */
 public enum Phases {
     DAY,
-    NIGHT
+    NIGHT;
+
+    /** Ticks only while the registered TimeProvider is in this phase */
+    private final TickPolicy tickPolicy = TickPolicy.when(name().toLowerCase() + " only", () -> {
+        TimeProvider timeProvider = ServiceLocator.getTimeProvider();
+        return timeProvider != null && timeProvider.getCurrentPhase() == this;
+    });
+
+    /**
+     * Returns a tick policy for grounds and items that only do something during this phase.
+     *
+     * @return a TickPolicy that is due only during this phase
+     */
+    public TickPolicy tickPolicy() {
+        return tickPolicy;
+    }
 }
@@ -1,8 +1,13 @@
 package game.timemanagement;
 
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.events.EventBus;
+
 /**
  * Service locator for managing a global instance of TimeProvider.
  * Ensures a single TimeProvider is used throughout the game.
+ * Also holds the Display that game messages are printed to, so they all end up in the same place,
+ * and the EventBus for game events that don't happen on any particular map.
  *
  * @author Adji Ilhamhafiz Sarie Hakim
  */
@@ -11,6 +16,18 @@ public class ServiceLocator {
     /** The singleton TimeProvider registered via registerTimeProvider(TimeProvider) */
     private static TimeProvider timeProvider;
 
+    /** The Display registered via registerDisplay(Display) */
+    private static Display display;
+
+    /** Used when no Display has been registered; writes straight to standard output */
+    private static Display defaultDisplay;
+
+    /** The EventBus registered via registerEventBus(EventBus) */
+    private static EventBus eventBus;
+
+    /** Used when no EventBus has been registered; describes every event on getDisplay() */
+    private static EventBus defaultEventBus;
+
     /**
      * Registers a TimeProvider if one is not already registered.
      *
@@ -32,4 +49,64 @@ public class ServiceLocator {
     public static TimeProvider getTimeProvider() {
         return timeProvider;
     }
+
+    /**
+     * Registers the Display that game messages should be printed to, if one is not already registered.
+     * This is normally the World's Display, so that messages are batched with the rest of the turn's output.
+     *
+     * @param gameDisplay the Display to register
+     * @throws IllegalStateException if a Display has already been registered
+     */
+    public static void registerDisplay(Display gameDisplay) {
+        if (display != null) {
+            throw new IllegalStateException("Display already registered");
+        }
+        display = gameDisplay;
+    }
+
+    /**
+     * Returns the registered Display, or one that prints to standard output if none has been registered.
+     *
+     * @return the Display to print game messages to
+     */
+    public static synchronized Display getDisplay() {
+        if (display != null) {
+            return display;
+        }
+        if (defaultDisplay == null) {
+            defaultDisplay = new Display();
+        }
+        return defaultDisplay;
+    }
+
+    /**
+     * Registers the EventBus for game events, if one is not already registered.
+     * This is normally the World's EventBus, so that subscribers see every event in the game.
+     *
+     * @param bus the EventBus to register
+     * @throws IllegalStateException if an EventBus has already been registered
+     */
+    public static void registerEventBus(EventBus bus) {
+        if (eventBus != null) {
+            throw new IllegalStateException("EventBus already registered");
+        }
+        eventBus = bus;
+    }
+
+    /**
+     * Returns the registered EventBus, or one that describes every event on {@link #getDisplay()}
+     * if none has been registered.
+     *
+     * @return the EventBus to publish game events to
+     */
+    public static synchronized EventBus getEventBus() {
+        if (eventBus != null) {
+            return eventBus;
+        }
+        if (defaultEventBus == null) {
+            defaultEventBus = new EventBus();
+            defaultEventBus.subscribeText(text -> getDisplay().println(text));
+        }
+        return defaultEventBus;
+    }
 }
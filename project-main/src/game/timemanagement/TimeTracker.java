@@ -1,6 +1,6 @@
 package game.timemanagement;
 
-import edu.monash.fit2099.engine.displays.Display;
+import game.events.PhaseChanged;
 
 /**
  * Tracks the passage of time in the game by counting turns.
@@ -32,7 +32,7 @@ public class TimeTracker implements TimeProvider {
         turnCount++;
         if (turnCount % TURNS_PER_DAY == 0) {
             currentPhase = currentPhase.nextPhase();
-            new Display().println("Time has changed to: " + currentPhase.getTimePhase());
+            ServiceLocator.getEventBus().publish(new PhaseChanged(currentPhase.getTimePhase()));
         }
     }
 
@@ -1,6 +1,8 @@
 package game.weapons;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.events.Attacked;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import game.actors.creatures.boss.BedOfChaos;
@@ -18,7 +20,7 @@ public class BedOfChaosWeapon extends IntrinsicWeapon {
     private static final int BASE_DAMAGE = 25;
     private static final int HIT_RATE = 75;
     private final BedOfChaos boss;
-    private final Random random = new Random();
+    private final Random random = GameRandom.get();
 
     /**
      * Constructs a new BedOfChaosWeapon.
@@ -45,11 +47,10 @@ public class BedOfChaosWeapon extends IntrinsicWeapon {
         int damage = BASE_DAMAGE + boss.getTotalAttackPower();
 
         if (random.nextInt(100) >= this.hitRate) {
-            return attacker + " misses " + target + ".";
+            return map.events().report(Attacked.missed(attacker, target));
         }
 
         target.hurt(damage);
-        return String.format("%s %s %s for %d damage",
-                attacker, verb, target, damage);
+        return map.events().report(Attacked.hit(attacker, target, verb, damage));
     }
 }
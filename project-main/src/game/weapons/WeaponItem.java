@@ -1,7 +1,9 @@
 package game.weapons;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.events.Attacked;
 import edu.monash.fit2099.engine.items.*;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
@@ -41,14 +43,14 @@ public class WeaponItem extends Item implements Weapon {
 
     @Override
     public String attack(Actor attacker, Actor target, GameMap map) {
-        Random rand = new Random();
+        Random rand = GameRandom.get();
         if (!(rand.nextInt(100) < this.hitRate)) {
-            return attacker + " misses " + target + ".";
+            return map.events().report(Attacked.missed(attacker, target));
         }
 
         target.hurt(Math.round(damage * damageMultiplier));
 
-        return String.format("%s %s %s for %d damage", attacker, verb, target, damage);
+        return map.events().report(Attacked.hit(attacker, target, verb, damage));
     }
 
     @Override